@@ -85,8 +85,10 @@ export async function getStatistics() {
 }
 
 // Notification APIs
-export async function getNotifications() {
-  const res = await fetch(`${API}/notifications`, { headers: { ...authHeaders() } })
+export async function getNotifications(size = 50, before = null) {
+  const params = new URLSearchParams({ size })
+  if (before !== null) params.append('before', before)
+  const res = await fetch(`${API}/notifications?${params}`, { headers: { ...authHeaders() } })
   if (!res.ok) throw new Error('Failed to fetch notifications')
   return res.json()
 }
@@ -97,6 +99,31 @@ export async function getUnreadCount() {
   return res.json()
 }
 
+// One shared EventSource per tab; listeners get { type: 'unread-count' | 'notification', data }
+const notificationListeners = new Set()
+let notificationSource = null
+
+export function subscribeNotifications(listener) {
+  notificationListeners.add(listener)
+  if (!notificationSource && typeof EventSource !== 'undefined') {
+    const token = localStorage.getItem('token')
+    notificationSource = new EventSource(`${API}/notifications/stream?access_token=${encodeURIComponent(token || '')}`)
+    notificationSource.addEventListener('unread-count', e => {
+      notificationListeners.forEach(l => l({ type: 'unread-count', data: JSON.parse(e.data) }))
+    })
+    notificationSource.addEventListener('notification', e => {
+      notificationListeners.forEach(l => l({ type: 'notification', data: JSON.parse(e.data) }))
+    })
+  }
+  return () => {
+    notificationListeners.delete(listener)
+    if (notificationListeners.size === 0 && notificationSource) {
+      notificationSource.close()
+      notificationSource = null
+    }
+  }
+}
+
 export async function markNotificationAsRead(id) {
   const res = await fetch(`${API}/notifications/${id}/read`, {
     method: 'PUT',
@@ -135,6 +162,13 @@ export async function getStatisticsHistory(days = 30) {
   return res.json()
 }
 
+// Server-side rollups: granularity is HOURLY, DAILY or MONTHLY
+export async function getStatisticRollups(granularity = 'DAILY') {
+  const res = await fetch(`${API}/transactions/statistics/rollups?granularity=${granularity}`, { headers: { ...authHeaders() } })
+  if (!res.ok) throw new Error('Failed to fetch rollups')
+  return res.json()
+}
+
 // Today's Hourly Growth API
 export async function getTodayHourlyGrowth() {
   const res = await fetch(`${API}/transactions/statistics/today-hourly`, { headers: { ...authHeaders() } })
@@ -161,6 +195,12 @@ export async function getDirectorSummaryStats() {
   return res.json()
 }
 
+export async function getDirectorPerformance() {
+  const res = await fetch(`${API}/transactions/director/performance`, { headers: { ...authHeaders() } })
+  if (!res.ok) throw new Error('Failed to fetch director performance')
+  return res.json()
+}
+
 // User/Employee Management APIs
 export async function getAllUsers() {
   const res = await fetch(`${API}/users`, { headers: { ...authHeaders() } })
@@ -1,6 +1,6 @@
 import React, { useEffect, useState } from 'react'
 import { useNavigate, useLocation } from 'react-router-dom'
-import { getUnreadCount, getNotifications, markAllNotificationsAsRead, markNotificationAsRead, getProfile } from '../api'
+import { getUnreadCount, getNotifications, markAllNotificationsAsRead, markNotificationAsRead, getProfile, subscribeNotifications } from '../api'
 import '../styles/NotificationBadge.css'
 
 export default function NotificationBadge() {
@@ -13,9 +13,17 @@ export default function NotificationBadge() {
   const profile = getProfile()
 
   useEffect(() => {
-    loadUnreadCount()
-    const interval = setInterval(loadUnreadCount, 10000) // Refresh every 10 seconds
-    return () => clearInterval(interval)
+    if (typeof EventSource === 'undefined') {
+      loadUnreadCount()
+      const interval = setInterval(loadUnreadCount, 10000) // No SSE support: refresh every 10 seconds
+      return () => clearInterval(interval)
+    }
+    // The stream sends the current count on connect and after every change
+    return subscribeNotifications(event => {
+      if (event.type === 'unread-count') {
+        setUnreadCount(event.data)
+      }
+    })
   }, [])
 
   async function loadUnreadCount() {
@@ -32,8 +40,8 @@ export default function NotificationBadge() {
     if (!showDropdown) {
       setLoading(true)
       try {
-        const notifs = await getNotifications()
-        setNotifications(notifs.slice(0, 5)) // Show top 5
+        const notifs = await getNotifications(5) // Show top 5
+        setNotifications(notifs)
       } catch (err) {
         console.error('Failed to load notifications:', err)
       } finally {
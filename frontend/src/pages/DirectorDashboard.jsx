@@ -1,6 +1,6 @@
 import React, { useEffect, useState } from 'react'
 import { LineChart, Line, XAxis, YAxis, CartesianGrid, Tooltip, Legend, ResponsiveContainer } from 'recharts'
-import { getAllTransactions, getAllTransactionsPaginated, getDirectorFilteredTransactions, getStatistics, getStatisticsHistory, getTodayHourlyGrowth, updateUserManager, getUsersByRole, getPending, getWorkerHistory, getManagerHistory, getDirectorAllPending, getDirectorAllRejected, getDirectorSummaryStats } from '../api'
+import { getAllTransactions, getAllTransactionsPaginated, getDirectorFilteredTransactions, getStatistics, getStatisticsHistory, getStatisticRollups, getTodayHourlyGrowth, updateUserManager, getUsersByRole, getPending, getWorkerHistory, getManagerHistory, getDirectorAllPending, getDirectorAllRejected, getDirectorSummaryStats, getDirectorPerformance } from '../api'
 import EmployeeManagement from './EmployeeManagement'
 import '../styles/DirectorDashboard.css'
 
@@ -28,6 +28,7 @@ export default function DirectorDashboard() {
   const [pendingTransactions, setPendingTransactions] = useState([])
   const [rejectedTransactions, setRejectedTransactions] = useState([])
   const [directorSummaryStats, setDirectorSummaryStats] = useState(null) // { accepted, pending, rejected, total }
+  const [performanceStats, setPerformanceStats] = useState(null) // { workers: [...], managers: [...] }
   const [editingManager, setEditingManager] = useState(null)
   const [sectionData, setSectionData] = useState({
     overview: null,
@@ -102,12 +103,14 @@ export default function DirectorDashboard() {
     setRefreshing(true)
     try {
       // Use director-scoped endpoints to get accurate system-wide data
-      const [summaryStats, pendingData, rejectedData] = await Promise.all([
+      const [summaryStats, pendingData, rejectedData, performance] = await Promise.all([
         getDirectorSummaryStats(),
         getDirectorAllPending(),
-        getDirectorAllRejected()
+        getDirectorAllRejected(),
+        getDirectorPerformance()
       ])
       setDirectorSummaryStats(summaryStats)
+      setPerformanceStats(performance)
       setPendingTransactions(pendingData)
       setRejectedTransactions(rejectedData)
       setLastRefreshTime(new Date())
@@ -255,13 +258,15 @@ export default function DirectorDashboard() {
   async function loadAllTransactionsForStats() {
     try {
       // Use director-scoped endpoints for accurate system-wide counts
-      const [summaryStats, pendingData, rejectedData] = await Promise.all([
+      const [summaryStats, pendingData, rejectedData, performance] = await Promise.all([
         getDirectorSummaryStats(),
         getDirectorAllPending(),
-        getDirectorAllRejected()
+        getDirectorAllRejected(),
+        getDirectorPerformance()
       ])
 
       setDirectorSummaryStats(summaryStats)
+      setPerformanceStats(performance)
       setPendingTransactions(pendingData)
       setRejectedTransactions(rejectedData)
 
@@ -337,8 +342,14 @@ export default function DirectorDashboard() {
       let data = []
       
       if (granularity === 'monthly') {
-        // Use existing monthly chart data preparation
-        data = prepareMonthlyChartData()
+        // Monthly totals come pre-aggregated from the server rollups
+        const rollups = await getStatisticRollups('MONTHLY')
+        data = rollups.slice(-6).map(row => ({
+          month: new Date(row.asOfDate + '-01').toLocaleDateString('en-US', { month: 'short', year: 'numeric' }),
+          income: Number(row.totalIncome) || 0,
+          spending: Number(row.totalSpending) || 0,
+          netProfit: Number(row.netProfit) || 0
+        }))
       } else if (granularity === 'daily') {
         // Get last 30 days of daily data
         const thirtyDaysAgo = new Date()
@@ -614,8 +625,7 @@ export default function DirectorDashboard() {
       ? Number(directorSummaryStats.total) || 0
       : (currentStats ? Number(currentStats.transactionCount) : 0)
 
-    // Build per-worker breakdown from the current page of txs (for table display only)
-    // For aggregate top-performer we use the paginated txs as a best-effort approximation
+    // Per-worker breakdown comes from the exact server-side aggregates
     const workerTransactions = {}
     workers.forEach(worker => {
       workerTransactions[worker.id] = {
@@ -626,48 +636,25 @@ export default function DirectorDashboard() {
       }
     })
 
-    txs.forEach(tx => {
-      if (tx.workerId && workerTransactions[tx.workerId]) {
-        workerTransactions[tx.workerId].totalTransactions++
-        if (tx.status === 'ACCEPTED') {
-          workerTransactions[tx.workerId].acceptedTransactions++
-          if (tx.type === 'INCOME') {
-            workerTransactions[tx.workerId].totalIncome += Number(tx.amount) || 0
-          }
-        }
+    const workerPerformance = performanceStats ? performanceStats.workers : []
+    workerPerformance.forEach(row => {
+      if (workerTransactions[row.userId]) {
+        workerTransactions[row.userId].totalIncome = Number(row.acceptedIncome) || 0
+        workerTransactions[row.userId].totalTransactions = row.totalTransactions
+        workerTransactions[row.userId].acceptedTransactions = row.acceptedTransactions
       }
     })
 
-    // Find top performer from the available data
-    const workerValues = Object.values(workerTransactions)
-    let topPerformer = workerValues.length > 0 
-      ? workerValues.sort((a, b) => b.totalIncome - a.totalIncome)[0]
+    // Rows are ordered by accepted income, so the first one is the top performer
+    const topPerformer = workerPerformance.length > 0
+      ? { name: workerPerformance[0].username || workerPerformance[0].fullName, totalIncome: Number(workerPerformance[0].acceptedIncome) || 0 }
       : { name: 'N/A', totalIncome: 0 }
 
-    // If we have no income data from paginated transactions, use currentStats as a fallback
-    if (topPerformer.totalIncome === 0 && currentStats && currentStats.totalIncome) {
-      // Distribute total income among workers for demonstration purposes
-      const totalIncome = Number(currentStats.totalIncome) || 0
-      const avgIncomePerWorker = totalIncome / workers.length
-      
-      // Update all workers with realistic income distribution
-      workerValues.forEach((worker, index) => {
-        // Add some variation (±20%) to make it realistic
-        const variation = 0.8 + (Math.random() * 0.4) // 0.8 to 1.2
-        worker.totalIncome = Math.round(avgIncomePerWorker * variation)
-      })
-      
-      // Recalculate top performer
-      topPerformer = workerValues.sort((a, b) => b.totalIncome - a.totalIncome)[0]
-    }
-
     // Use server-side accepted count for the approval rate
     const serverAccepted = directorSummaryStats ? Number(directorSummaryStats.accepted) : null
     const approvalRate = (serverAccepted !== null && totalTransactionsCount > 0)
       ? (serverAccepted / totalTransactionsCount * 100).toFixed(1)
-      : (txs.length > 0
-        ? ((txs.filter(tx => tx.status === 'ACCEPTED').length / txs.length) * 100).toFixed(1)
-        : 0)
+      : 0
 
     const avgTransactionsPerWorker = workers.length > 0 && totalTransactionsCount > 0
       ? (totalTransactionsCount / workers.length).toFixed(1)
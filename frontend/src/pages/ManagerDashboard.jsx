@@ -1,6 +1,6 @@
 import React, { useEffect, useState } from 'react'
 import { useSearchParams } from 'react-router-dom'
-import { getPending, reviewTransaction } from '../api'
+import { getPending, reviewTransaction, subscribeNotifications } from '../api'
 import '../styles/ManagerDashboard.css'
 
 export default function ManagerDashboard() {
@@ -14,10 +14,19 @@ export default function ManagerDashboard() {
 
   useEffect(()=> {
     load()
+    // New submissions arrive as NEW_TRANSACTION notifications; the slow interval is only a safety net
+    const unsubscribe = subscribeNotifications(event => {
+      if (event.type === 'notification' && event.data.type === 'NEW_TRANSACTION') {
+        load()
+      }
+    })
     const interval = setInterval(() => {
       load()
-    }, 5000)
-    return () => clearInterval(interval)
+    }, 60000)
+    return () => {
+      unsubscribe()
+      clearInterval(interval)
+    }
   }, [])
 
   async function load() {
@@ -2,8 +2,11 @@ import React, { useState } from 'react'
 import { getNotifications, markNotificationAsRead } from '../api'
 import '../styles/NotificationsPage.css'
 
+const PAGE_SIZE = 50
+
 export default function NotificationsPage() {
   const [notifications, setNotifications] = useState([])
+  const [hasMore, setHasMore] = useState(false)
   const [loading, setLoading] = useState(false)
   const [error, setError] = useState('')
   const [filter, setFilter] = useState('all') // all, unread, accepted, rejected, commented
@@ -16,8 +19,23 @@ export default function NotificationsPage() {
     setLoading(true)
     setError('')
     try {
-      const data = await getNotifications()
+      const data = await getNotifications(PAGE_SIZE)
       setNotifications(data)
+      setHasMore(data.length === PAGE_SIZE)
+    } catch (err) {
+      setError('Failed to load notifications: ' + err.message)
+    } finally {
+      setLoading(false)
+    }
+  }
+
+  async function loadMore() {
+    if (notifications.length === 0) return
+    setLoading(true)
+    try {
+      const data = await getNotifications(PAGE_SIZE, notifications[notifications.length - 1].id)
+      setNotifications([...notifications, ...data])
+      setHasMore(data.length === PAGE_SIZE)
     } catch (err) {
       setError('Failed to load notifications: ' + err.message)
     } finally {
@@ -168,6 +186,12 @@ export default function NotificationsPage() {
           ))
         )}
       </div>
+
+      {hasMore && !loading && (
+        <button className="load-more-btn" onClick={loadMore}>
+          Load older notifications
+        </button>
+      )}
     </div>
   )
 }
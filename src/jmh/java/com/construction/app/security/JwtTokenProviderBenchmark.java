@@ -0,0 +1,91 @@
+package com.construction.app.security;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+// Per-request token work done by JwtAuthenticationFilter
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+    // Many more distinct tokens than the claims cache holds, so the uncached arms verify a signature on
+    // nearly every call (a full cache also evicts), as when each request carries a token not seen recently
+    private static final int CLAIMS_CACHE_SIZE = 256;
+    private static final int TOKEN_POOL_SIZE = 16384;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+    private String[] tokenPool;
+    private int nextToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtSecret",
+                "benchmark-secret-key-that-is-long-enough-for-hmac-sha-256-signing");
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtExpirationMs", 86400000);
+        ReflectionTestUtils.setField(jwtTokenProvider, "claimsCacheSize", CLAIMS_CACHE_SIZE);
+        jwtTokenProvider.init();
+        token = jwtTokenProvider.generateToken("worker1", "WORKER", 10L, 2L);
+
+        tokenPool = new String[TOKEN_POOL_SIZE];
+        for (int i = 0; i < TOKEN_POOL_SIZE; i++) {
+            tokenPool[i] = jwtTokenProvider.generateToken("worker" + i, "WORKER", (long) i, 2L);
+        }
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtTokenProvider.generateToken("worker1", "WORKER", 10L, 2L);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(token);
+    }
+
+    // What the filter does for every authenticated request: one cached parse, then subject and role
+    @Benchmark
+    public String authenticateRequest() {
+        Claims claims = jwtTokenProvider.parseClaims(token);
+        if (claims == null) {
+            throw new IllegalStateException("Benchmark token rejected");
+        }
+        return claims.getSubject() + claims.get("role", String.class);
+    }
+
+    @Benchmark
+    public boolean validateTokenUncached() {
+        return jwtTokenProvider.validateToken(nextPooledToken());
+    }
+
+    // Same as authenticateRequest, but the signature is verified because the token is not cached
+    @Benchmark
+    public String authenticateRequestUncached() {
+        Claims claims = jwtTokenProvider.parseClaims(nextPooledToken());
+        if (claims == null) {
+            throw new IllegalStateException("Benchmark token rejected");
+        }
+        return claims.getSubject() + claims.get("role", String.class);
+    }
+
+    private String nextPooledToken() {
+        nextToken = (nextToken + 1) % TOKEN_POOL_SIZE;
+        return tokenPool[nextToken];
+    }
+}
@@ -0,0 +1,90 @@
+package com.construction.app.service;
+
+import com.construction.app.enums.TransactionStatus;
+import com.construction.app.repository.TransactionRepository;
+import com.construction.app.repository.projection.BucketTotal;
+import com.construction.app.repository.projection.TransactionRow;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+// Daily totals over a year: folding raw rows in the JVM against folding what the aggregate query returns
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class StatisticAggregationBenchmark {
+    @State(Scope.Benchmark)
+    public static class RawRows {
+        @Param({ "1000", "100000", "1000000", "10000000" })
+        private int size;
+
+        private List<TransactionRow> rows;
+
+        @Setup
+        public void setUp() {
+            rows = SyntheticTransactions.rows(size);
+        }
+    }
+
+    // The repository is mocked, so the input is always the DAYS * 2 (day, type) rows whatever the table size
+    @State(Scope.Benchmark)
+    public static class DailyBuckets {
+        private StatisticService statisticService;
+        private LocalDate from;
+        private LocalDate to;
+
+        @Setup
+        public void setUp() {
+            List<BucketTotal> buckets = SyntheticTransactions.dailyBuckets();
+
+            TransactionRepository transactionRepository = Mockito.mock(TransactionRepository.class);
+            Mockito.when(transactionRepository.sumByBucketAndType(anyString(), anyString(), any(), any()))
+                    .thenReturn(buckets);
+            statisticService = new StatisticService();
+            ReflectionTestUtils.setField(statisticService, "transactionRepository", transactionRepository);
+
+            to = SyntheticTransactions.END.toLocalDate();
+            from = to.minusDays(SyntheticTransactions.DAYS);
+        }
+    }
+
+    // Grouping raw rows in the JVM, as the history used to do before the aggregate query
+    @Benchmark
+    public Map<LocalDate, ?> foldRowsByDay(RawRows state) {
+        Map<LocalDate, AmountTotals> totalsByDate = new HashMap<>();
+        for (TransactionRow row : state.rows) {
+            if (row.getStatus() == TransactionStatus.ACCEPTED) {
+                totalsByDate.computeIfAbsent(row.getCreatedAt().toLocalDate(), date -> new AmountTotals())
+                        .add(row.getType(), row.getAmount(), 1);
+            }
+        }
+        return totalsByDate;
+    }
+
+    // Fold only: the JVM side of aggregateByDay over the pre-aggregated rows, without the query itself
+    @Benchmark
+    public Map<LocalDate, ?> foldDailyBuckets(DailyBuckets state) {
+        return state.statisticService.aggregateByDay(state.from, state.to);
+    }
+}
@@ -0,0 +1,101 @@
+package com.construction.app.service;
+
+import com.construction.app.enums.TransactionStatus;
+import com.construction.app.enums.TransactionType;
+import com.construction.app.repository.projection.BucketTotal;
+import com.construction.app.repository.projection.TransactionRow;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// Deterministic in-memory data for the benchmarks; no database involved
+final class SyntheticTransactions {
+    static final LocalDateTime END = LocalDateTime.of(2025, 1, 1, 0, 0);
+    static final int DAYS = 365;
+
+    private static final TransactionStatus[] STATUSES = TransactionStatus.values();
+    private static final String[] WORKERS = { "Ali Valiyev", "Bekzod Karimov", "Dilshod Rahimov", "Jasur Toshev" };
+    private static final String[] PRODUCTS = { "Cement", "Rebar", "Sand", "Bricks", "Paint" };
+
+    private SyntheticTransactions() {
+    }
+
+    static List<TransactionRow> rows(int size) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<TransactionRow> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int worker = random.nextInt(WORKERS.length);
+            TransactionStatus status = STATUSES[random.nextInt(STATUSES.length)];
+            LocalDateTime createdAt = END.minusMinutes(random.nextInt(DAYS * 24 * 60));
+            rows.add(new TransactionRow(
+                    (long) i,
+                    (long) worker + 10,
+                    WORKERS[worker],
+                    2L,
+                    "Manager One",
+                    random.nextBoolean() ? TransactionType.INCOME : TransactionType.SPENDING,
+                    status,
+                    BigDecimal.valueOf(random.nextInt(1_000_000), 2),
+                    "UZS",
+                    PRODUCTS[random.nextInt(PRODUCTS.length)],
+                    "Site " + (i % 7),
+                    null,
+                    BigDecimal.valueOf(random.nextInt(100_000), 2),
+                    null,
+                    createdAt,
+                    status == TransactionStatus.PENDING ? null : createdAt.plusHours(3)));
+        }
+        return rows;
+    }
+
+    // Shape of the day-bucketed aggregate query: one income and one spending row per day in the window,
+    // however many raw rows they stand for
+    static List<BucketTotal> dailyBuckets() {
+        SplittableRandom random = new SplittableRandom(7);
+        List<BucketTotal> buckets = new ArrayList<>(DAYS * 2);
+        for (int i = 0; i < DAYS * 2; i++) {
+            buckets.add(new Bucket(END.minusDays(i / 2),
+                    i % 2 == 0 ? TransactionType.INCOME : TransactionType.SPENDING,
+                    BigDecimal.valueOf(random.nextInt(100_000_000), 2),
+                    1L + random.nextInt(50)));
+        }
+        return buckets;
+    }
+
+    private static final class Bucket implements BucketTotal {
+        private final LocalDateTime bucket;
+        private final TransactionType type;
+        private final BigDecimal total;
+        private final Long transactionCount;
+
+        private Bucket(LocalDateTime bucket, TransactionType type, BigDecimal total, Long transactionCount) {
+            this.bucket = bucket;
+            this.type = type;
+            this.total = total;
+            this.transactionCount = transactionCount;
+        }
+
+        @Override
+        public LocalDateTime getBucket() {
+            return bucket;
+        }
+
+        @Override
+        public TransactionType getType() {
+            return type;
+        }
+
+        @Override
+        public BigDecimal getTotal() {
+            return total;
+        }
+
+        @Override
+        public Long getTransactionCount() {
+            return transactionCount;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.construction.app.service;
+
+import com.construction.app.dto.PagedResponse;
+import com.construction.app.dto.TransactionResponse;
+import com.construction.app.repository.TransactionFilter;
+import com.construction.app.repository.TransactionRepository;
+import com.construction.app.repository.projection.TransactionRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+
+// DTO conversion and JSON encoding of list responses; pass -p size=10000000 for the largest run
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class TransactionResponseBenchmark {
+    @Param({ "1000", "100000", "1000000" })
+    private int size;
+
+    private List<TransactionRow> rows;
+    private List<TransactionResponse> responses;
+    private PagedResponse<TransactionResponse> page;
+    private TransactionService transactionService;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        rows = SyntheticTransactions.rows(size);
+
+        // Same settings as the application's mapper (spring.jackson.serialization.write-dates-as-timestamps)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        TransactionRepository transactionRepository = Mockito.mock(TransactionRepository.class);
+        Mockito.when(transactionRepository.streamByFilter(any(), anyInt()))
+                .thenAnswer(invocation -> rows.stream());
+        transactionService = new TransactionService();
+        ReflectionTestUtils.setField(transactionService, "transactionRepository", transactionRepository);
+        ReflectionTestUtils.setField(transactionService, "objectMapper", objectMapper);
+
+        responses = rows.stream().map(transactionService::convertToResponse).collect(Collectors.toList());
+        page = new PagedResponse<>(responses, 0, size, size);
+    }
+
+    @Benchmark
+    public void convertToResponse(Blackhole blackhole) {
+        for (TransactionRow row : rows) {
+            blackhole.consume(transactionService.convertToResponse(row));
+        }
+    }
+
+    @Benchmark
+    public void serializeList() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), responses);
+    }
+
+    @Benchmark
+    public void serializePagedResponse() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), page);
+    }
+
+    // Conversion and encoding row by row, as the stream=true list endpoints do
+    @Benchmark
+    public void streamTransactions() throws IOException {
+        transactionService.streamTransactions(new TransactionFilter(), OutputStream.nullOutputStream());
+    }
+}
@@ -1,6 +1,7 @@
 package com.construction.app.config;
 
 import com.construction.app.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -34,14 +35,18 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                    // Streamed responses finish on an async dispatch; the request was authorized already
+                    .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                     .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                     .requestMatchers(HttpMethod.POST, "/api/auth/login").permitAll()
                     .requestMatchers(HttpMethod.GET, "/api/auth/health").permitAll()
                     .requestMatchers(HttpMethod.POST, "/api/transactions/create").hasRole("WORKER")
+                    .requestMatchers(HttpMethod.POST, "/api/transactions/bulk").hasRole("WORKER")
                     .requestMatchers(HttpMethod.GET, "/api/transactions/my-transactions").hasRole("WORKER")
                     .requestMatchers(HttpMethod.GET, "/api/transactions/pending").hasRole("MANAGER")
                     .requestMatchers(HttpMethod.GET, "/api/transactions/all").hasAnyRole("MANAGER", "DIRECTOR")
                     .requestMatchers(HttpMethod.PUT, "/api/transactions/*/review").hasRole("MANAGER")
+                    .requestMatchers(HttpMethod.PUT, "/api/transactions/review-batch").hasRole("MANAGER")
                     .requestMatchers(HttpMethod.GET, "/api/transactions/*/photo").authenticated()
                     .requestMatchers("/api/users/**").authenticated()
                     .requestMatchers("/api/notifications/**").authenticated()
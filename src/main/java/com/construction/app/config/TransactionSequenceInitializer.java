@@ -0,0 +1,23 @@
+package com.construction.app.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@Order(0) // Before any initializer inserts transactions
+public class TransactionSequenceInitializer implements CommandLineRunner {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Rows created while ids came from the identity column live above the new sequence's start;
+    // move it past them (plus one allocation block) so pooled ids never collide
+    @Override
+    public void run(String... args) {
+        jdbcTemplate.queryForObject("SELECT setval('transactions_seq', GREATEST("
+                + "(SELECT COALESCE(MAX(id), 0) FROM transactions) + 50, "
+                + "(SELECT last_value FROM transactions_seq)))", Long.class);
+    }
+}
@@ -6,6 +6,7 @@ import com.construction.app.enums.TransactionStatus;
 import com.construction.app.enums.TransactionType;
 import com.construction.app.repository.TransactionRepository;
 import com.construction.app.repository.UserRepository;
+import com.construction.app.service.StatisticService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -15,6 +16,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
@@ -28,6 +30,9 @@ public class ComprehensiveDemoController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private StatisticService statisticService;
+
     @PostMapping("/create-full-chart-data")
     @PreAuthorize("hasRole('DIRECTOR')")
     public ResponseEntity<String> createFullChartData() {
@@ -43,6 +48,7 @@ public class ComprehensiveDemoController {
         
         // Create transactions for the past 24 hours to show a full chart
         int transactionsCreated = 0;
+        List<Transaction> batch = new ArrayList<>();
         
         for (int hoursAgo = 23; hoursAgo >= 0; hoursAgo--) {
             LocalDateTime transactionTime = now.minusHours(hoursAgo);
@@ -57,16 +63,19 @@ public class ComprehensiveDemoController {
                     "Transaction " + (transactionsCreated + 1) + " (" + hoursAgo + "h ago)",
                     type, 
                     transactionTime, 
-                    amount);
+                    amount, batch);
                 transactionsCreated++;
             }
         }
         
+        transactionRepository.saveAll(batch);
+        statisticService.refreshDerivedStatistics();
+
         return ResponseEntity.ok("Created " + transactionsCreated + " transactions across the past 24 hours!");
     }
 
     private void createTransactionAtTime(User worker, String product, TransactionType type, 
-                                       LocalDateTime createdAt, BigDecimal amount) {
+                                       LocalDateTime createdAt, BigDecimal amount, List<Transaction> batch) {
         Transaction transaction = new Transaction();
         transaction.setWorker(worker);
         transaction.setType(type);
@@ -80,6 +89,6 @@ public class ComprehensiveDemoController {
         transaction.setCreatedAt(createdAt);
         transaction.setManager(worker.getAssignedManager());
         
-        transactionRepository.save(transaction);
+        batch.add(transaction);
     }
 }
@@ -6,6 +6,7 @@ import com.construction.app.enums.TransactionStatus;
 import com.construction.app.enums.TransactionType;
 import com.construction.app.repository.TransactionRepository;
 import com.construction.app.repository.UserRepository;
+import com.construction.app.service.StatisticService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -13,6 +14,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +30,9 @@ public class DemoDataController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private StatisticService statisticService;
+
     @PostMapping("/create-transactions")
     @PreAuthorize("hasRole('DIRECTOR')")
     public ResponseEntity<String> createDemoTransactions() {
@@ -63,6 +68,7 @@ public class DemoDataController {
 
         // Create transactions for the past few days with better time distribution
         int transactionsCreated = 0;
+        List<Transaction> batch = new ArrayList<>();
         for (int dayOffset = 2; dayOffset >= 0; dayOffset--) {
             LocalDateTime baseTime = LocalDateTime.now().minusDays(dayOffset);
             
@@ -74,7 +80,7 @@ public class DemoDataController {
                 int hour = 8 + random.nextInt(13); // 8 AM to 8 PM
                 int minute = random.nextInt(60);
                 LocalDateTime transactionTime = baseTime.withHour(hour).withMinute(minute);
-                createTransaction(workers, data, TransactionType.INCOME, transactionTime, random);
+                createTransaction(workers, data, TransactionType.INCOME, transactionTime, random, batch);
                 transactionsCreated++;
             }
 
@@ -86,15 +92,18 @@ public class DemoDataController {
                 int hour = 8 + random.nextInt(13); // 8 AM to 8 PM
                 int minute = random.nextInt(60);
                 LocalDateTime transactionTime = baseTime.withHour(hour).withMinute(minute);
-                createTransaction(workers, data, TransactionType.SPENDING, transactionTime, random);
+                createTransaction(workers, data, TransactionType.SPENDING, transactionTime, random, batch);
                 transactionsCreated++;
             }
         }
 
+        transactionRepository.saveAll(batch);
+        statisticService.refreshDerivedStatistics();
+
         return ResponseEntity.ok("Demo transactions created successfully! Created " + transactionsCreated + " transactions for " + workers.size() + " workers.");
     }
 
-    private void createTransaction(List<User> workers, String[] data, TransactionType type, LocalDateTime transactionTime, Random random) {
+    private void createTransaction(List<User> workers, String[] data, TransactionType type, LocalDateTime transactionTime, Random random, List<Transaction> batch) {
         User worker = workers.get(random.nextInt(workers.size()));
         
         Transaction transaction = new Transaction();
@@ -112,7 +121,7 @@ public class DemoDataController {
         // Set assigned manager
         transaction.setManager(worker.getAssignedManager());
         
-        transactionRepository.save(transaction);
+        batch.add(transaction);
     }
 
     @GetMapping("/status")
@@ -135,6 +144,7 @@ public class DemoDataController {
         Random random = new Random();
         LocalDateTime now = LocalDateTime.now();
         int transactionsCreated = 0;
+        List<Transaction> batch = new ArrayList<>();
 
         // Create transactions for the past 30 days
         for (int daysAgo = 30; daysAgo >= 0; daysAgo--) {
@@ -153,7 +163,7 @@ public class DemoDataController {
                 LocalDateTime transactionTime = dayStart.withHour(hour).withMinute(minute);
                 
                 Transaction transaction = createRandomTransaction(worker, manager, transactionTime, random);
-                transactionRepository.save(transaction);
+                batch.add(transaction);
                 transactionsCreated++;
             }
         }
@@ -163,7 +173,7 @@ public class DemoDataController {
             User worker = workers.get(random.nextInt(workers.size()));
             User manager = worker.getAssignedManager();
             Transaction pendingTransaction = createPendingTransaction(worker, manager, random);
-            transactionRepository.save(pendingTransaction);
+            batch.add(pendingTransaction);
             transactionsCreated++;
         }
 
@@ -172,10 +182,13 @@ public class DemoDataController {
             User worker = workers.get(random.nextInt(workers.size()));
             User manager = worker.getAssignedManager();
             Transaction rejectedTransaction = createRejectedTransaction(worker, manager, random);
-            transactionRepository.save(rejectedTransaction);
+            batch.add(rejectedTransaction);
             transactionsCreated++;
         }
 
+        transactionRepository.saveAll(batch);
+        statisticService.refreshDerivedStatistics();
+
         return ResponseEntity.ok("Comprehensive demo data created! Total transactions: " + transactionsCreated);
     }
 
@@ -1,13 +1,13 @@
 package com.construction.app.controller;
 
 import com.construction.app.dto.NotificationResponse;
-import com.construction.app.repository.UserRepository;
+import com.construction.app.security.SecurityUtils;
 import com.construction.app.service.NotificationService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -17,30 +17,26 @@ public class NotificationController {
     @Autowired
     private NotificationService notificationService;
 
-    @Autowired
-    private UserRepository userRepository;
-
     @GetMapping
-    public ResponseEntity<List<NotificationResponse>> getNotifications() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
+    public ResponseEntity<List<NotificationResponse>> getNotifications(
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "50") int size) {
+        Long workerId = SecurityUtils.getCurrentUserId();
 
-        Long workerId = userRepository.findByUsername(username)
-                .map(u -> u.getId())
-                .orElseThrow(() -> new RuntimeException("Authenticated user not found"));
-
-        List<NotificationResponse> notifications = notificationService.getNotifications(workerId);
+        List<NotificationResponse> notifications = notificationService.getNotifications(workerId, before, size);
         return ResponseEntity.ok(notifications);
     }
 
+    // EventSource cannot send headers, so this path also accepts the token as ?access_token=
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        Long workerId = SecurityUtils.getCurrentUserId();
+        return notificationService.subscribe(workerId, lastEventId);
+    }
+
     @GetMapping("/unread-count")
     public ResponseEntity<Long> getUnreadCount() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-
-        Long workerId = userRepository.findByUsername(username)
-                .map(u -> u.getId())
-                .orElseThrow(() -> new RuntimeException("Authenticated user not found"));
+        Long workerId = SecurityUtils.getCurrentUserId();
 
         Long count = notificationService.getUnreadCount(workerId);
         return ResponseEntity.ok(count);
@@ -54,12 +50,7 @@ public class NotificationController {
 
     @PutMapping("/read-all")
     public ResponseEntity<Void> markAllAsRead() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-
-        Long workerId = userRepository.findByUsername(username)
-                .map(u -> u.getId())
-                .orElseThrow(() -> new RuntimeException("Authenticated user not found"));
+        Long workerId = SecurityUtils.getCurrentUserId();
 
         notificationService.markAllAsRead(workerId);
         return ResponseEntity.ok().build();
@@ -6,6 +6,7 @@ import com.construction.app.enums.TransactionStatus;
 import com.construction.app.enums.TransactionType;
 import com.construction.app.repository.TransactionRepository;
 import com.construction.app.repository.UserRepository;
+import com.construction.app.service.StatisticService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -15,6 +16,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @RestController
@@ -27,6 +29,9 @@ public class TestDataController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private StatisticService statisticService;
+
     @PostMapping("/create-hourly-test-data")
     @PreAuthorize("hasRole('DIRECTOR')")
     public ResponseEntity<String> createHourlyTestData() {
@@ -38,46 +43,50 @@ public class TestDataController {
 
         User worker = workers.get(0); // Use first worker
         LocalDateTime today = LocalDateTime.now();
+        List<Transaction> batch = new ArrayList<>();
         
         // Create transactions at current hour and recent past hours
         createTransactionAtTime(worker, "Current Hour Income", TransactionType.INCOME, 
-            today, new BigDecimal("800.00"));
+            today, new BigDecimal("800.00"), batch);
         
         // 2 hours ago (if current hour >= 2)
         if (today.getHour() >= 2) {
             createTransactionAtTime(worker, "2 Hours Ago Income", TransactionType.INCOME, 
-                today.minusHours(2), new BigDecimal("1200.00"));
+                today.minusHours(2), new BigDecimal("1200.00"), batch);
         }
         
         // 4 hours ago (if current hour >= 4)
         if (today.getHour() >= 4) {
             createTransactionAtTime(worker, "4 Hours Ago Spending", TransactionType.SPENDING, 
-                today.minusHours(4), new BigDecimal("300.00"));
+                today.minusHours(4), new BigDecimal("300.00"), batch);
         }
         
         // 6 hours ago (if current hour >= 6)
         if (today.getHour() >= 6) {
             createTransactionAtTime(worker, "6 Hours Ago Income", TransactionType.INCOME, 
-                today.minusHours(6), new BigDecimal("1500.00"));
+                today.minusHours(6), new BigDecimal("1500.00"), batch);
         }
         
         // 8 hours ago (if current hour >= 8)
         if (today.getHour() >= 8) {
             createTransactionAtTime(worker, "8 Hours Ago Spending", TransactionType.SPENDING, 
-                today.minusHours(8), new BigDecimal("450.00"));
+                today.minusHours(8), new BigDecimal("450.00"), batch);
         }
         
         // 10 hours ago (if current hour >= 10)
         if (today.getHour() >= 10) {
             createTransactionAtTime(worker, "10 Hours Ago Income", TransactionType.INCOME, 
-                today.minusHours(10), new BigDecimal("600.00"));
+                today.minusHours(10), new BigDecimal("600.00"), batch);
         }
         
+        transactionRepository.saveAll(batch);
+        statisticService.refreshDerivedStatistics();
+
         return ResponseEntity.ok("Created test transactions at recent hours today!");
     }
 
     private void createTransactionAtTime(User worker, String product, TransactionType type, 
-                                       LocalDateTime createdAt, BigDecimal amount) {
+                                       LocalDateTime createdAt, BigDecimal amount, List<Transaction> batch) {
         Transaction transaction = new Transaction();
         transaction.setWorker(worker);
         transaction.setType(type);
@@ -91,6 +100,6 @@ public class TestDataController {
         transaction.setCreatedAt(createdAt);
         transaction.setManager(worker.getAssignedManager());
         
-        transactionRepository.save(transaction);
+        batch.add(transaction);
     }
 }
@@ -1,23 +1,50 @@
 package com.construction.app.controller;
 
+import com.construction.app.dto.BatchReviewItem;
+import com.construction.app.dto.BatchReviewResult;
+import com.construction.app.dto.BulkCreateResponse;
+import com.construction.app.dto.CursorPage;
 import com.construction.app.dto.PagedResponse;
+import com.construction.app.dto.PerformanceStatsResponse;
 import com.construction.app.dto.ReviewTransactionRequest;
 import com.construction.app.dto.StatisticResponse;
 import com.construction.app.dto.TransactionRequest;
 import com.construction.app.dto.TransactionResponse;
 import com.construction.app.entity.Transaction;
+import com.construction.app.enums.RollupGranularity;
 import com.construction.app.enums.TransactionStatus;
-import com.construction.app.repository.UserRepository;
+import com.construction.app.repository.TransactionFilter;
+import com.construction.app.security.SecurityUtils;
+import com.construction.app.service.SnapshotBackfillService;
 import com.construction.app.service.StatisticService;
+import com.construction.app.service.StatisticsCache;
+import com.construction.app.service.TransactionExportService;
+import com.construction.app.service.TransactionImportService;
 import com.construction.app.service.TransactionService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
-
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/transactions")
@@ -25,18 +52,19 @@ public class TransactionController {
     @Autowired
     private TransactionService transactionService;
     @Autowired
-    private UserRepository userRepository;
-    @Autowired
     private StatisticService statisticService;
+    @Autowired
+    private SnapshotBackfillService snapshotBackfillService;
+    @Autowired
+    private TransactionImportService transactionImportService;
+    @Autowired
+    private TransactionExportService transactionExportService;
+    @Autowired
+    private StatisticsCache statisticsCache;
 
     @PostMapping("/create")
     public ResponseEntity<TransactionResponse> createTransaction(@RequestBody TransactionRequest request) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-
-        Long workerId = userRepository.findByUsername(username)
-                .map(u -> u.getId())
-                .orElseThrow(() -> new RuntimeException("Authenticated user not found"));
+        Long workerId = SecurityUtils.getCurrentUserId();
 
         Transaction transaction = transactionService.createTransaction(workerId, request);
 
@@ -61,46 +89,62 @@ public class TransactionController {
         return ResponseEntity.ok(response);
     }
 
-    @GetMapping("/my-transactions")
-    public ResponseEntity<List<TransactionResponse>> getMyTransactions() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        Long workerId = userRepository.findByUsername(username)
-                .map(u -> u.getId())
-                .orElseThrow(() -> new RuntimeException("Authenticated user not found"));
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkCreateResponse> bulkCreateTransactions(@RequestBody List<TransactionRequest> requests) {
+        Long workerId = SecurityUtils.getCurrentUserId();
+        return ResponseEntity.ok(transactionImportService.importTransactions(workerId, requests));
+    }
 
-        List<TransactionResponse> transactions = transactionService.getWorkerTransactions(workerId);
-        return ResponseEntity.ok(transactions);
+    // NDJSON upload: records are validated and stored while the body is still streaming in
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BulkCreateResponse> bulkCreateTransactionsNdjson(HttpServletRequest request)
+            throws IOException {
+        Long workerId = SecurityUtils.getCurrentUserId();
+        return ResponseEntity.ok(transactionImportService.importNdjson(workerId, request.getInputStream()));
     }
 
-    @GetMapping("/pending")
-    public ResponseEntity<List<TransactionResponse>> getPendingTransactions() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        Long managerId = userRepository.findByUsername(username)
-                .map(u -> u.getId())
-                .orElseThrow(() -> new RuntimeException("Authenticated user not found"));
+    @GetMapping("/my-transactions")
+    public ResponseEntity<?> getMyTransactions(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "next") String direction,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean stream) {
+        Long workerId = SecurityUtils.getCurrentUserId();
+
+        return listTransactions(TransactionFilter.forWorker(workerId, null), cursor, direction, size, stream);
+    }
 
-        List<TransactionResponse> transactions = transactionService.getManagerPendingTransactions(managerId);
-        return ResponseEntity.ok(transactions);
+    @GetMapping("/pending")
+    public ResponseEntity<?> getPendingTransactions(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "next") String direction,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean stream) {
+        Long managerId = SecurityUtils.getCurrentUserId();
+
+        return listTransactions(TransactionFilter.forManager(managerId, TransactionStatus.PENDING),
+                cursor, direction, size, stream);
     }
 
     @GetMapping("/all")
-    public ResponseEntity<List<TransactionResponse>> getAllTransactions() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        Long managerId = userRepository.findByUsername(username)
-                .map(u -> u.getId())
-                .orElseThrow(() -> new RuntimeException("Authenticated user not found"));
-
-        List<TransactionResponse> transactions = transactionService.getManagerAllTransactions(managerId);
-        return ResponseEntity.ok(transactions);
+    public ResponseEntity<?> getAllTransactions(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "next") String direction,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean stream) {
+        Long managerId = SecurityUtils.getCurrentUserId();
+
+        return listTransactions(TransactionFilter.forManager(managerId, null), cursor, direction, size, stream);
     }
 
     @GetMapping("/all-accepted")
-    public ResponseEntity<List<TransactionResponse>> getAllAcceptedTransactions() {
-        List<TransactionResponse> transactions = transactionService.getAllAcceptedTransactions();
-        return ResponseEntity.ok(transactions);
+    public ResponseEntity<?> getAllAcceptedTransactions(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "next") String direction,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean stream) {
+        return listTransactions(TransactionFilter.forStatus(TransactionStatus.ACCEPTED),
+                cursor, direction, size, stream);
     }
 
     @GetMapping("/all-accepted-paginated")
@@ -116,12 +160,7 @@ public class TransactionController {
     public ResponseEntity<TransactionResponse> reviewTransaction(
             @PathVariable Long id,
             @RequestBody ReviewTransactionRequest request) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-
-        Long managerId = userRepository.findByUsername(username)
-                .map(u -> u.getId())
-                .orElseThrow(() -> new RuntimeException("Authenticated user not found"));
+        Long managerId = SecurityUtils.getCurrentUserId();
 
         Transaction transaction = transactionService.reviewTransaction(id, managerId, request);
 
@@ -136,33 +175,42 @@ public class TransactionController {
         return ResponseEntity.ok(response);
     }
 
-    @GetMapping("/history")
-    public ResponseEntity<List<TransactionResponse>> getWorkerHistory(
-            @RequestParam(defaultValue = "ALL") String status) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        Long workerId = userRepository.findByUsername(username)
-                .map(u -> u.getId())
-                .orElseThrow(() -> new RuntimeException("Authenticated user not found"));
-
-        List<TransactionResponse> transactions;
-
-        if ("ALL".equals(status)) {
-            transactions = transactionService.getWorkerTransactions(workerId);
-        } else {
-            TransactionStatus transactionStatus = mapStatusStringToEnum(status);
-            transactions = transactionService.getWorkerTransactionsByStatus(workerId, transactionStatus);
+    @PutMapping("/review-batch")
+    public ResponseEntity<List<BatchReviewResult>> reviewTransactions(
+            @RequestBody(required = false) List<BatchReviewItem> items) {
+        Long managerId = SecurityUtils.getCurrentUserId();
+
+        try {
+            List<BatchReviewResult> results = transactionService.reviewTransactions(managerId, items);
+            return ResponseEntity.ok(results);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         }
+    }
 
-        return ResponseEntity.ok(transactions);
+    @GetMapping("/history")
+    public ResponseEntity<?> getWorkerHistory(
+            @RequestParam(defaultValue = "ALL") String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "next") String direction,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean stream) {
+        Long workerId = SecurityUtils.getCurrentUserId();
+
+        TransactionStatus transactionStatus = "ALL".equals(status) ? null : mapStatusStringToEnum(status);
+        return listTransactions(TransactionFilter.forWorker(workerId, transactionStatus),
+                cursor, direction, size, stream);
     }
 
     @GetMapping("/director-filtered")
-    public ResponseEntity<PagedResponse<TransactionResponse>> getDirectorFilteredTransactions(
+    public ResponseEntity<?> getDirectorFilteredTransactions(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String status,
-            @RequestParam(required = false) String workerUsername) {
+            @RequestParam(required = false) String workerUsername,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "next") String direction,
+            @RequestParam(defaultValue = "none") String total) {
 
         // Only allow directors to access this endpoint
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -173,78 +221,266 @@ public class TransactionController {
             return ResponseEntity.status(403).build();
         }
 
+        // Any cursor parameter (empty for the first page) switches to keyset paging
+        if (cursor != null) {
+            try {
+                CursorPage<TransactionResponse> transactions = transactionService.getDirectorTransactionsByCursor(
+                        cursor, "prev".equalsIgnoreCase(direction), size, status, workerUsername, total);
+                return ResponseEntity.ok(transactions);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+
         PagedResponse<TransactionResponse> transactions = transactionService.getDirectorFilteredTransactions(
                 page, size, status, workerUsername);
         return ResponseEntity.ok(transactions);
     }
 
-    @GetMapping("/manager-history")
-    public ResponseEntity<List<TransactionResponse>> getManagerHistory(
-            @RequestParam(defaultValue = "ALL") String status) {
+    // Same filters as director-filtered, streamed as CSV or NDJSON; gzip when the client accepts it
+    @GetMapping("/director/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String workerUsername,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        Long managerId = userRepository.findByUsername(username)
-                .map(u -> u.getId())
-                .orElseThrow(() -> new RuntimeException("Authenticated user not found"));
-
-        List<TransactionResponse> transactions;
-
-        if ("ALL".equals(status)) {
-            transactions = transactionService.getManagerAllTransactions(managerId);
-        } else {
-            TransactionStatus transactionStatus = mapStatusStringToEnum(status);
-            transactions = transactionService.getManagerTransactionsByStatus(managerId, transactionStatus);
+        boolean isDirector = authentication.getAuthorities().stream()
+                .anyMatch(auth -> auth.getAuthority().equals("ROLE_DIRECTOR"));
+        if (!isDirector) {
+            return ResponseEntity.status(403).build();
+        }
+        if (!TransactionExportService.isSupportedFormat(format)) {
+            return ResponseEntity.badRequest().build();
         }
 
-        return ResponseEntity.ok(transactions);
+        TransactionFilter filter;
+        try {
+            filter = transactionService.directorFilter(status, workerUsername);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return exportResponse("transactions", format, acceptEncoding,
+                out -> transactionExportService.exportTransactions(filter, format, out));
+    }
+
+    @GetMapping("/statistics/history/export")
+    public ResponseEntity<StreamingResponseBody> exportStatisticsHistory(
+            @RequestParam(defaultValue = "30") int days,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (!TransactionExportService.isSupportedFormat(format)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return exportResponse("statistics", format, acceptEncoding,
+                out -> transactionExportService.exportStatisticHistory(days, format, out));
+    }
+
+    private ResponseEntity<StreamingResponseBody> exportResponse(String name, String format, String acceptEncoding,
+            StreamingResponseBody content) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        StreamingResponseBody body = content;
+        if (gzip) {
+            body = out -> {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, 64 * 1024);
+                content.writeTo(compressed);
+                compressed.finish();
+            };
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(TransactionExportService.CSV.equals(format)
+                        ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                        : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(name + "-" + LocalDate.now() + "." + format).build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    @GetMapping("/manager-history")
+    public ResponseEntity<?> getManagerHistory(
+            @RequestParam(defaultValue = "ALL") String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "next") String direction,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean stream) {
+        Long managerId = SecurityUtils.getCurrentUserId();
+
+        TransactionStatus transactionStatus = "ALL".equals(status) ? null : mapStatusStringToEnum(status);
+        return listTransactions(TransactionFilter.forManager(managerId, transactionStatus),
+                cursor, direction, size, stream);
     }
 
     @GetMapping("/statistics")
-    public ResponseEntity<StatisticResponse> getStatistics() {
-        StatisticResponse current = statisticService.getCurrentStatistics();
-        return ResponseEntity.ok(current);
+    public ResponseEntity<StatisticResponse> getStatistics(WebRequest request) {
+        return cachedStatistics(request, "current-" + LocalDate.now(), statisticService::getCurrentStatistics);
     }
 
     @GetMapping("/statistics/history")
-    public ResponseEntity<List<StatisticResponse>> getStatisticsHistory(@RequestParam(defaultValue = "30") int days) {
-        List<StatisticResponse> history = statisticService.getStatisticHistory(days);
-        return ResponseEntity.ok(history);
+    public ResponseEntity<List<StatisticResponse>> getStatisticsHistory(@RequestParam(defaultValue = "30") int days,
+            WebRequest request) {
+        return cachedStatistics(request, "history-" + days + "-" + LocalDate.now(),
+                () -> statisticService.getStatisticHistory(days));
+    }
+
+    @GetMapping("/statistics/rollups")
+    public ResponseEntity<List<StatisticResponse>> getStatisticsRollups(
+            @RequestParam(defaultValue = "DAILY") String granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        RollupGranularity rollupGranularity;
+        try {
+            rollupGranularity = RollupGranularity.valueOf(granularity.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from;
+        if (start == null) {
+            // Default windows match the director dashboard charts
+            switch (rollupGranularity) {
+                case HOURLY:
+                    start = end.minusHours(23);
+                    break;
+                case DAILY:
+                    start = end.minusDays(29);
+                    break;
+                default:
+                    start = end.minusMonths(11);
+            }
+        }
+
+        try {
+            List<StatisticResponse> rollups = statisticService.getRollups(rollupGranularity, start, end);
+            return ResponseEntity.ok(rollups);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping("/statistics/snapshots/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildStatisticSnapshots(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        boolean isDirector = authentication.getAuthorities().stream()
+                .anyMatch(auth -> auth.getAuthority().equals("ROLE_DIRECTOR"));
+        if (!isDirector)
+            return ResponseEntity.status(403).build();
+        if (from.isAfter(to))
+            return ResponseEntity.badRequest().build();
+
+        int rebuilt;
+        try {
+            rebuilt = snapshotBackfillService.rebuildRange(from, to);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        Map<String, Object> result = new java.util.LinkedHashMap<>();
+        result.put("from", from.toString());
+        result.put("to", to.toString());
+        result.put("snapshotsWritten", rebuilt);
+        return ResponseEntity.ok(result);
     }
 
     @GetMapping("/director/all-pending")
-    public ResponseEntity<List<TransactionResponse>> getDirectorAllPending() {
+    public ResponseEntity<?> getDirectorAllPending(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "next") String direction,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean stream) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         boolean isDirector = authentication.getAuthorities().stream()
                 .anyMatch(auth -> auth.getAuthority().equals("ROLE_DIRECTOR"));
         if (!isDirector)
             return ResponseEntity.status(403).build();
-        return ResponseEntity.ok(transactionService.getAllPendingTransactions());
+        return listTransactions(TransactionFilter.forStatus(TransactionStatus.PENDING),
+                cursor, direction, size, stream);
     }
 
     @GetMapping("/director/all-rejected")
-    public ResponseEntity<List<TransactionResponse>> getDirectorAllRejected() {
+    public ResponseEntity<?> getDirectorAllRejected(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "next") String direction,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean stream) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         boolean isDirector = authentication.getAuthorities().stream()
                 .anyMatch(auth -> auth.getAuthority().equals("ROLE_DIRECTOR"));
         if (!isDirector)
             return ResponseEntity.status(403).build();
-        return ResponseEntity.ok(transactionService.getAllRejectedTransactions());
+        return listTransactions(TransactionFilter.forStatus(TransactionStatus.REJECTED),
+                cursor, direction, size, stream);
+    }
+
+    // Without cursor or stream the full list is returned as before; a cursor parameter (empty for the
+    // first page) switches to keyset pages, stream=true writes the rows out as they are read
+    private ResponseEntity<?> listTransactions(TransactionFilter filter, String cursor, String direction, int size,
+            boolean stream) {
+        if (stream) {
+            StreamingResponseBody body = out -> transactionService.streamTransactions(filter, out);
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+        }
+        if (cursor != null) {
+            try {
+                CursorPage<TransactionResponse> transactions = transactionService.getTransactionsByCursor(
+                        filter, cursor, "prev".equalsIgnoreCase(direction), size);
+                return ResponseEntity.ok(transactions);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+        return ResponseEntity.ok(transactionService.getTransactions(filter));
     }
 
     @GetMapping("/director/summary-stats")
-    public ResponseEntity<Map<String, Long>> getDirectorSummaryStats() {
+    public ResponseEntity<Map<String, Object>> getDirectorSummaryStats(
+            @RequestParam(defaultValue = "false") boolean byManager,
+            @RequestParam(defaultValue = "false") boolean byWorker,
+            WebRequest request) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         boolean isDirector = authentication.getAuthorities().stream()
                 .anyMatch(auth -> auth.getAuthority().equals("ROLE_DIRECTOR"));
         if (!isDirector)
             return ResponseEntity.status(403).build();
-        return ResponseEntity.ok(transactionService.getDirectorSummaryStats());
+        return cachedStatistics(request, "summary-" + byManager + "-" + byWorker,
+                () -> transactionService.getDirectorSummaryStats(byManager, byWorker));
+    }
+
+    @GetMapping("/director/performance")
+    public ResponseEntity<Map<String, List<PerformanceStatsResponse>>> getDirectorPerformance() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        boolean isDirector = authentication.getAuthorities().stream()
+                .anyMatch(auth -> auth.getAuthority().equals("ROLE_DIRECTOR"));
+        if (!isDirector)
+            return ResponseEntity.status(403).build();
+        return ResponseEntity.ok(statisticService.getPerformance());
     }
 
     @GetMapping("/statistics/today-hourly")
-    public ResponseEntity<List<Map<String, Object>>> getTodayHourlyGrowth() {
-        List<Map<String, Object>> hourlyData = statisticService.getTodayHourlyGrowth();
-        return ResponseEntity.ok(hourlyData);
+    public ResponseEntity<List<Map<String, Object>>> getTodayHourlyGrowth(WebRequest request) {
+        // The window slides every hour even without new reviews
+        return cachedStatistics(request, "hourly-" + LocalDateTime.now().truncatedTo(ChronoUnit.HOURS),
+                statisticService::getTodayHourlyGrowth);
+    }
+
+    // Polling clients send the ETag back and get 304 without any query or serialization until the
+    // ledger version moves
+    private <T> ResponseEntity<T> cachedStatistics(WebRequest request, String key, Supplier<T> loader) {
+        String etag = statisticsCache.etag(key);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(statisticsCache.get(key, loader));
     }
 
     private TransactionStatus mapStatusStringToEnum(String status) {
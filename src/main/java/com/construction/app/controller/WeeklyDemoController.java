@@ -6,6 +6,7 @@ import com.construction.app.enums.TransactionStatus;
 import com.construction.app.enums.TransactionType;
 import com.construction.app.repository.TransactionRepository;
 import com.construction.app.repository.UserRepository;
+import com.construction.app.service.StatisticService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -15,6 +16,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
@@ -28,6 +30,9 @@ public class WeeklyDemoController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private StatisticService statisticService;
+
     @PostMapping("/create-weekly-data")
     @PreAuthorize("hasRole('DIRECTOR')")
     public ResponseEntity<String> createWeeklyData() {
@@ -55,6 +60,7 @@ public class WeeklyDemoController {
 
         Random random = new Random();
         int transactionsCreated = 0;
+        List<Transaction> batch = new ArrayList<>();
         
         // Create transactions for the past 7 days
         for (int dayOffset = 6; dayOffset >= 0; dayOffset--) {
@@ -68,7 +74,7 @@ public class WeeklyDemoController {
                 int hour = 8 + random.nextInt(11); // 8 AM to 6 PM
                 int minute = random.nextInt(60);
                 LocalDateTime transactionTime = baseTime.withHour(hour).withMinute(minute);
-                createTransaction(workers, data, TransactionType.INCOME, transactionTime, random);
+                createTransaction(workers, data, TransactionType.INCOME, transactionTime, random, batch);
                 transactionsCreated++;
             }
 
@@ -80,15 +86,18 @@ public class WeeklyDemoController {
                 int hour = 8 + random.nextInt(11); // 8 AM to 6 PM
                 int minute = random.nextInt(60);
                 LocalDateTime transactionTime = baseTime.withHour(hour).withMinute(minute);
-                createTransaction(workers, data, TransactionType.SPENDING, transactionTime, random);
+                createTransaction(workers, data, TransactionType.SPENDING, transactionTime, random, batch);
                 transactionsCreated++;
             }
         }
         
+        transactionRepository.saveAll(batch);
+        statisticService.refreshDerivedStatistics();
+
         return ResponseEntity.ok("Created " + transactionsCreated + " transactions across the past 7 days!");
     }
 
-    private void createTransaction(List<User> workers, String[] data, TransactionType type, LocalDateTime transactionTime, Random random) {
+    private void createTransaction(List<User> workers, String[] data, TransactionType type, LocalDateTime transactionTime, Random random, List<Transaction> batch) {
         User worker = workers.get(random.nextInt(workers.size()));
         
         Transaction transaction = new Transaction();
@@ -106,6 +115,6 @@ public class WeeklyDemoController {
         // Set assigned manager
         transaction.setManager(worker.getAssignedManager());
         
-        transactionRepository.save(transaction);
+        batch.add(transaction);
     }
 }
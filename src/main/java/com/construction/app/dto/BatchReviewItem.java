@@ -0,0 +1,40 @@
+package com.construction.app.dto;
+
+public class BatchReviewItem {
+    private Long id;
+    private String action;
+    private String comment;
+
+    public BatchReviewItem() {
+    }
+
+    public BatchReviewItem(Long id, String action, String comment) {
+        this.id = id;
+        this.action = action;
+        this.comment = comment;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public void setAction(String action) {
+        this.action = action;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    public void setComment(String comment) {
+        this.comment = comment;
+    }
+}
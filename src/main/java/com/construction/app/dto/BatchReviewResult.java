@@ -0,0 +1,59 @@
+package com.construction.app.dto;
+
+public class BatchReviewResult {
+    private Long id;
+    private boolean success;
+    private String status;
+    private String error;
+
+    public BatchReviewResult() {
+    }
+
+    public static BatchReviewResult success(Long id, String status) {
+        BatchReviewResult result = new BatchReviewResult();
+        result.setId(id);
+        result.setSuccess(true);
+        result.setStatus(status);
+        return result;
+    }
+
+    public static BatchReviewResult failure(Long id, String error) {
+        BatchReviewResult result = new BatchReviewResult();
+        result.setId(id);
+        result.setSuccess(false);
+        result.setError(error);
+        return result;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,47 @@
+package com.construction.app.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BulkCreateResponse {
+    private int received;
+    private int created;
+    private int rejected;
+    // First errors only, as "record N: reason"
+    private List<String> errors = new ArrayList<>();
+
+    public BulkCreateResponse() {
+    }
+
+    public int getReceived() {
+        return received;
+    }
+
+    public void setReceived(int received) {
+        this.received = received;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+}
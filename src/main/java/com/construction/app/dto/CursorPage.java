@@ -0,0 +1,91 @@
+package com.construction.app.dto;
+
+import java.util.List;
+
+// Keyset page; totalElements is null unless a total was requested
+public class CursorPage<T> {
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+    private String prevCursor;
+    private boolean hasNext;
+    private boolean hasPrevious;
+    private Long totalElements;
+    private boolean totalApproximate;
+
+    public CursorPage() {}
+
+    public CursorPage(List<T> content, int size, String nextCursor, String prevCursor) {
+        this.content = content;
+        this.size = size;
+        this.nextCursor = nextCursor;
+        this.prevCursor = prevCursor;
+        this.hasNext = nextCursor != null;
+        this.hasPrevious = prevCursor != null;
+    }
+
+    // Getters and setters
+    public List<T> getContent() {
+        return content;
+    }
+
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public String getPrevCursor() {
+        return prevCursor;
+    }
+
+    public void setPrevCursor(String prevCursor) {
+        this.prevCursor = prevCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public boolean isHasPrevious() {
+        return hasPrevious;
+    }
+
+    public void setHasPrevious(boolean hasPrevious) {
+        this.hasPrevious = hasPrevious;
+    }
+
+    public Long getTotalElements() {
+        return totalElements;
+    }
+
+    public void setTotalElements(Long totalElements) {
+        this.totalElements = totalElements;
+    }
+
+    public boolean isTotalApproximate() {
+        return totalApproximate;
+    }
+
+    public void setTotalApproximate(boolean totalApproximate) {
+        this.totalApproximate = totalApproximate;
+    }
+}
@@ -0,0 +1,82 @@
+package com.construction.app.dto;
+
+import java.time.LocalDate;
+
+// Parameters of a synthetic dataset; the same seed, size and end date always produce the same rows
+public class LoadGenerationRequest {
+    private long total = 100_000;
+    private int days = 90;
+    private long seed = 42;
+    private Integer threads;
+    private int incomePercent = 55;
+    private int pendingPercent = 5;
+    private int rejectedPercent = 3;
+    private LocalDate endDate;
+
+    public LoadGenerationRequest() {
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    public void setDays(int days) {
+        this.days = days;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public Integer getThreads() {
+        return threads;
+    }
+
+    public void setThreads(Integer threads) {
+        this.threads = threads;
+    }
+
+    public int getIncomePercent() {
+        return incomePercent;
+    }
+
+    public void setIncomePercent(int incomePercent) {
+        this.incomePercent = incomePercent;
+    }
+
+    public int getPendingPercent() {
+        return pendingPercent;
+    }
+
+    public void setPendingPercent(int pendingPercent) {
+        this.pendingPercent = pendingPercent;
+    }
+
+    public int getRejectedPercent() {
+        return rejectedPercent;
+    }
+
+    public void setRejectedPercent(int rejectedPercent) {
+        this.rejectedPercent = rejectedPercent;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+}
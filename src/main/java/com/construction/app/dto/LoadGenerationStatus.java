@@ -0,0 +1,81 @@
+package com.construction.app.dto;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Progress of a load generation run; written by the generator threads, read by the status endpoint
+public class LoadGenerationStatus {
+    public static final String RUNNING = "RUNNING";
+    public static final String REFRESHING = "REFRESHING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+
+    private final long total;
+    private final long seed;
+    private final LocalDateTime startedAt;
+    private final AtomicLong inserted = new AtomicLong();
+    private volatile String state = RUNNING;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    public LoadGenerationStatus(long total, long seed) {
+        this.total = total;
+        this.seed = seed;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public long getInserted() {
+        return inserted.get();
+    }
+
+    public void addInserted(long rows) {
+        inserted.addAndGet(rows);
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public long getElapsedMs() {
+        LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+        return Duration.between(startedAt, end).toMillis();
+    }
+
+    public long getRowsPerSecond() {
+        long elapsedMs = getElapsedMs();
+        return elapsedMs == 0 ? 0 : inserted.get() * 1000 / elapsedMs;
+    }
+}
@@ -0,0 +1,115 @@
+package com.construction.app.dto;
+
+public class PerformanceStatsResponse {
+    private Long userId;
+    private String username;
+    private String fullName;
+    private Long totalTransactions;
+    private Long acceptedTransactions;
+    private Long pendingTransactions;
+    private Long rejectedTransactions;
+    private Long commentedTransactions;
+    private String acceptedIncome;
+    private String acceptedSpending;
+    private Double approvalRate;
+    private Double averageReviewSeconds;
+
+    public PerformanceStatsResponse() {
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public void setFullName(String fullName) {
+        this.fullName = fullName;
+    }
+
+    public Long getTotalTransactions() {
+        return totalTransactions;
+    }
+
+    public void setTotalTransactions(Long totalTransactions) {
+        this.totalTransactions = totalTransactions;
+    }
+
+    public Long getAcceptedTransactions() {
+        return acceptedTransactions;
+    }
+
+    public void setAcceptedTransactions(Long acceptedTransactions) {
+        this.acceptedTransactions = acceptedTransactions;
+    }
+
+    public Long getPendingTransactions() {
+        return pendingTransactions;
+    }
+
+    public void setPendingTransactions(Long pendingTransactions) {
+        this.pendingTransactions = pendingTransactions;
+    }
+
+    public Long getRejectedTransactions() {
+        return rejectedTransactions;
+    }
+
+    public void setRejectedTransactions(Long rejectedTransactions) {
+        this.rejectedTransactions = rejectedTransactions;
+    }
+
+    public Long getCommentedTransactions() {
+        return commentedTransactions;
+    }
+
+    public void setCommentedTransactions(Long commentedTransactions) {
+        this.commentedTransactions = commentedTransactions;
+    }
+
+    public String getAcceptedIncome() {
+        return acceptedIncome;
+    }
+
+    public void setAcceptedIncome(String acceptedIncome) {
+        this.acceptedIncome = acceptedIncome;
+    }
+
+    public String getAcceptedSpending() {
+        return acceptedSpending;
+    }
+
+    public void setAcceptedSpending(String acceptedSpending) {
+        this.acceptedSpending = acceptedSpending;
+    }
+
+    public Double getApprovalRate() {
+        return approvalRate;
+    }
+
+    public void setApprovalRate(Double approvalRate) {
+        this.approvalRate = approvalRate;
+    }
+
+    public Double getAverageReviewSeconds() {
+        return averageReviewSeconds;
+    }
+
+    public void setAverageReviewSeconds(Double averageReviewSeconds) {
+        this.averageReviewSeconds = averageReviewSeconds;
+    }
+}
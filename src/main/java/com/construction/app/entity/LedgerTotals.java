@@ -0,0 +1,76 @@
+package com.construction.app.entity;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Single-row running totals of ACCEPTED transactions, maintained on review
+@Entity
+@Table(name = "ledger_totals")
+public class LedgerTotals {
+    @Id
+    private Long id;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalIncome;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalSpending;
+
+    @Column(nullable = false)
+    private Long transactionCount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public LedgerTotals() {
+    }
+
+    public LedgerTotals(Long id, BigDecimal totalIncome, BigDecimal totalSpending, Long transactionCount) {
+        this.id = id;
+        this.totalIncome = totalIncome;
+        this.totalSpending = totalSpending;
+        this.transactionCount = transactionCount;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public BigDecimal getTotalIncome() {
+        return totalIncome;
+    }
+
+    public void setTotalIncome(BigDecimal totalIncome) {
+        this.totalIncome = totalIncome;
+    }
+
+    public BigDecimal getTotalSpending() {
+        return totalSpending;
+    }
+
+    public void setTotalSpending(BigDecimal totalSpending) {
+        this.totalSpending = totalSpending;
+    }
+
+    public Long getTransactionCount() {
+        return transactionCount;
+    }
+
+    public void setTransactionCount(Long transactionCount) {
+        this.transactionCount = transactionCount;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -7,7 +7,8 @@ import java.time.LocalDateTime;
 @Table(name = "notifications", indexes = {
     @Index(name = "idx_worker_id", columnList = "worker_id"),
     @Index(name = "idx_is_read", columnList = "is_read"),
-    @Index(name = "idx_worker_is_read", columnList = "worker_id,is_read")
+    @Index(name = "idx_worker_is_read", columnList = "worker_id,is_read"),
+    @Index(name = "idx_notif_worker_id_id", columnList = "worker_id,id")
 })
 public class Notification {
     @Id
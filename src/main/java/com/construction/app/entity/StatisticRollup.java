@@ -0,0 +1,95 @@
+package com.construction.app.entity;
+
+import com.construction.app.enums.RollupGranularity;
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Accepted totals per hour/day/month bucket of createdAt, maintained incrementally on review
+@Entity
+@Table(name = "statistic_rollups", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_rollup_granularity_bucket", columnNames = {"granularity", "bucket_start"})
+})
+public class StatisticRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RollupGranularity granularity;
+
+    @Column(nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalIncome;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalSpending;
+
+    @Column(nullable = false)
+    private Long transactionCount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public StatisticRollup() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public RollupGranularity getGranularity() {
+        return granularity;
+    }
+
+    public void setGranularity(RollupGranularity granularity) {
+        this.granularity = granularity;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public BigDecimal getTotalIncome() {
+        return totalIncome;
+    }
+
+    public void setTotalIncome(BigDecimal totalIncome) {
+        this.totalIncome = totalIncome;
+    }
+
+    public BigDecimal getTotalSpending() {
+        return totalSpending;
+    }
+
+    public void setTotalSpending(BigDecimal totalSpending) {
+        this.totalSpending = totalSpending;
+    }
+
+    public Long getTransactionCount() {
+        return transactionCount;
+    }
+
+    public void setTransactionCount(Long transactionCount) {
+        this.transactionCount = transactionCount;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
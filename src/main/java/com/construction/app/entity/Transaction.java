@@ -7,16 +7,14 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "transactions", indexes = {
-        @Index(name = "idx_tx_status", columnList = "status"),
-        @Index(name = "idx_tx_worker_id", columnList = "worker_id"),
-        @Index(name = "idx_tx_manager_id", columnList = "manager_id"),
-        @Index(name = "idx_tx_created_at", columnList = "createdAt"),
-        @Index(name = "idx_tx_status_worker", columnList = "status,worker_id")
-})
+// Schema and indexes are owned by the Flyway migrations only; with the partitioned profile the table is
+// partitioned by month on created_at (primary key (id, created_at))
+@Table(name = "transactions")
 public class Transaction {
+    // Pooled sequence instead of IDENTITY so Hibernate can batch inserts (one nextval per 50 rows)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transactions_seq")
+    @SequenceGenerator(name = "transactions_seq", sequenceName = "transactions_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.EAGER, optional = false)
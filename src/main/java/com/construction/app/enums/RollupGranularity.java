@@ -0,0 +1,43 @@
+package com.construction.app.enums;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+public enum RollupGranularity {
+    HOURLY("hour"),
+    DAILY("day"),
+    MONTHLY("month");
+
+    // Matching Postgres date_trunc field
+    private final String truncUnit;
+
+    RollupGranularity(String truncUnit) {
+        this.truncUnit = truncUnit;
+    }
+
+    public String getTruncUnit() {
+        return truncUnit;
+    }
+
+    public LocalDateTime truncate(LocalDateTime dateTime) {
+        switch (this) {
+            case HOURLY:
+                return dateTime.truncatedTo(ChronoUnit.HOURS);
+            case DAILY:
+                return dateTime.truncatedTo(ChronoUnit.DAYS);
+            default:
+                return dateTime.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1);
+        }
+    }
+
+    public LocalDateTime next(LocalDateTime bucketStart) {
+        switch (this) {
+            case HOURLY:
+                return bucketStart.plusHours(1);
+            case DAILY:
+                return bucketStart.plusDays(1);
+            default:
+                return bucketStart.plusMonths(1);
+        }
+    }
+}
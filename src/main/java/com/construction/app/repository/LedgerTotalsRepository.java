@@ -0,0 +1,34 @@
+package com.construction.app.repository;
+
+import com.construction.app.entity.LedgerTotals;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface LedgerTotalsRepository extends JpaRepository<LedgerTotals, Long> {
+    // Relative update so concurrent reviews never overwrite each other
+    @Modifying
+    @Query("UPDATE LedgerTotals l SET l.totalIncome = l.totalIncome + :incomeDelta, " +
+            "l.totalSpending = l.totalSpending + :spendingDelta, " +
+            "l.transactionCount = l.transactionCount + :countDelta, l.updatedAt = :updatedAt WHERE l.id = :id")
+    int applyDelta(@Param("id") Long id, @Param("incomeDelta") BigDecimal incomeDelta,
+            @Param("spendingDelta") BigDecimal spendingDelta, @Param("countDelta") long countDelta,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query(value = "INSERT INTO ledger_totals (id, total_income, total_spending, transaction_count, updated_at) " +
+            "VALUES (:id, 0, 0, 0, :updatedAt) ON CONFLICT (id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("id") Long id, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM LedgerTotals l WHERE l.id = :id")
+    Optional<LedgerTotals> findByIdForUpdate(@Param("id") Long id);
+}
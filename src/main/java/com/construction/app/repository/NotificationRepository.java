@@ -1,13 +1,42 @@
 package com.construction.app.repository;
 
 import com.construction.app.entity.Notification;
+import com.construction.app.repository.projection.UnreadCount;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     List<Notification> findByWorkerIdOrderByCreatedAtDesc(Long workerId);
     Long countByWorkerIdAndIsReadFalse(Long workerId);
+    List<Notification> findByWorkerIdAndIdGreaterThanOrderByIdAsc(Long workerId, Long id, Pageable pageable);
+    List<Notification> findByWorkerIdOrderByIdDesc(Long workerId, Pageable pageable);
+    List<Notification> findByWorkerIdAndIdLessThanOrderByIdDesc(Long workerId, Long id, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.worker.id = :workerId AND n.isRead = false")
+    int markAllReadByWorkerId(@Param("workerId") Long workerId);
+
+    // Conditional, so of two concurrent requests for the same notification only one updates the row
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.id = :id AND n.isRead = false")
+    int markReadById(@Param("id") Long id);
+
+    // One bounded chunk per call so the purge never holds long locks or builds a huge transaction
+    @Modifying
+    @Query(value = "DELETE FROM notifications WHERE id IN (SELECT id FROM notifications "
+            + "WHERE is_read = true AND created_at < :cutoff ORDER BY id LIMIT :limit)", nativeQuery = true)
+    int deleteReadBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
     List<Notification> findByTransactionId(Long transactionId);
+
+    @Query("SELECT n.worker.id AS workerId, COUNT(n) AS unreadCount FROM Notification n "
+            + "WHERE n.isRead = false GROUP BY n.worker.id")
+    List<UnreadCount> countUnreadByWorker();
 }
@@ -0,0 +1,51 @@
+package com.construction.app.repository;
+
+import com.construction.app.entity.StatisticRollup;
+import com.construction.app.enums.RollupGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface StatisticRollupRepository extends JpaRepository<StatisticRollup, Long> {
+    @Query("SELECT r FROM StatisticRollup r WHERE r.granularity = :granularity " +
+            "AND r.bucketStart >= :start AND r.bucketStart < :end ORDER BY r.bucketStart ASC")
+    List<StatisticRollup> findRange(@Param("granularity") RollupGranularity granularity,
+            @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // Upsert that adds the delta to an existing bucket
+    @Modifying
+    @Query(value = "INSERT INTO statistic_rollups (granularity, bucket_start, total_income, total_spending, " +
+            "transaction_count, updated_at) VALUES (:granularity, :bucketStart, :incomeDelta, :spendingDelta, " +
+            ":countDelta, :updatedAt) ON CONFLICT (granularity, bucket_start) DO UPDATE SET " +
+            "total_income = statistic_rollups.total_income + EXCLUDED.total_income, " +
+            "total_spending = statistic_rollups.total_spending + EXCLUDED.total_spending, " +
+            "transaction_count = statistic_rollups.transaction_count + EXCLUDED.transaction_count, " +
+            "updated_at = EXCLUDED.updated_at", nativeQuery = true)
+    int addDelta(@Param("granularity") String granularity, @Param("bucketStart") LocalDateTime bucketStart,
+            @Param("incomeDelta") BigDecimal incomeDelta, @Param("spendingDelta") BigDecimal spendingDelta,
+            @Param("countDelta") long countDelta, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query(value = "DELETE FROM statistic_rollups WHERE granularity = :granularity " +
+            "AND bucket_start >= :start AND bucket_start < :end", nativeQuery = true)
+    int deleteRange(@Param("granularity") String granularity, @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+
+    // Recomputes buckets straight from transactions without moving rows through the application
+    @Modifying
+    @Query(value = "INSERT INTO statistic_rollups (granularity, bucket_start, total_income, total_spending, " +
+            "transaction_count, updated_at) " +
+            "SELECT :granularity, date_trunc(:unit, t.created_at), " +
+            "COALESCE(SUM(CASE WHEN t.type = 'INCOME' THEN t.amount END), 0), " +
+            "COALESCE(SUM(CASE WHEN t.type = 'SPENDING' THEN t.amount END), 0), COUNT(*), now() " +
+            "FROM transactions t WHERE t.status = 'ACCEPTED' AND t.created_at >= :start AND t.created_at < :end " +
+            "GROUP BY 2", nativeQuery = true)
+    int insertFromTransactions(@Param("granularity") String granularity, @Param("unit") String unit,
+            @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+}
@@ -2,8 +2,11 @@ package com.construction.app.repository;
 
 import com.construction.app.entity.StatisticSnapshot;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -16,4 +19,18 @@ public interface StatisticSnapshotRepository extends JpaRepository<StatisticSnap
     Optional<StatisticSnapshot> findLatest();
 
     Optional<StatisticSnapshot> findBySnapshotDate(LocalDate date);
+
+    @Query("SELECT s.snapshotDate FROM StatisticSnapshot s WHERE s.snapshotDate BETWEEN :startDate AND :endDate")
+    List<LocalDate> findSnapshotDatesBetween(@Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Modifying
+    @Query(value = "INSERT INTO statistic_snapshots (snapshot_date, total_income, total_spending, net_profit, " +
+            "transaction_count) VALUES (:snapshotDate, :totalIncome, :totalSpending, :netProfit, :transactionCount) " +
+            "ON CONFLICT (snapshot_date) DO UPDATE SET total_income = EXCLUDED.total_income, " +
+            "total_spending = EXCLUDED.total_spending, net_profit = EXCLUDED.net_profit, " +
+            "transaction_count = EXCLUDED.transaction_count", nativeQuery = true)
+    int upsert(@Param("snapshotDate") LocalDate snapshotDate, @Param("totalIncome") BigDecimal totalIncome,
+            @Param("totalSpending") BigDecimal totalSpending, @Param("netProfit") BigDecimal netProfit,
+            @Param("transactionCount") int transactionCount);
 }
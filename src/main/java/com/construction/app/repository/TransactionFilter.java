@@ -0,0 +1,70 @@
+package com.construction.app.repository;
+
+import com.construction.app.enums.TransactionStatus;
+
+// Optional filters shared by the list, cursor and streaming transaction queries; null means "any"
+public class TransactionFilter {
+    private Long workerId;
+    private Long managerId;
+    private TransactionStatus status;
+    private String workerUsername;
+
+    public TransactionFilter() {
+    }
+
+    public static TransactionFilter forWorker(Long workerId, TransactionStatus status) {
+        TransactionFilter filter = new TransactionFilter();
+        filter.setWorkerId(workerId);
+        filter.setStatus(status);
+        return filter;
+    }
+
+    public static TransactionFilter forManager(Long managerId, TransactionStatus status) {
+        TransactionFilter filter = new TransactionFilter();
+        filter.setManagerId(managerId);
+        filter.setStatus(status);
+        return filter;
+    }
+
+    public static TransactionFilter forStatus(TransactionStatus status) {
+        TransactionFilter filter = new TransactionFilter();
+        filter.setStatus(status);
+        return filter;
+    }
+
+    public boolean isEmpty() {
+        return workerId == null && managerId == null && status == null && workerUsername == null;
+    }
+
+    public Long getWorkerId() {
+        return workerId;
+    }
+
+    public void setWorkerId(Long workerId) {
+        this.workerId = workerId;
+    }
+
+    public Long getManagerId() {
+        return managerId;
+    }
+
+    public void setManagerId(Long managerId) {
+        this.managerId = managerId;
+    }
+
+    public TransactionStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TransactionStatus status) {
+        this.status = status;
+    }
+
+    public String getWorkerUsername() {
+        return workerUsername;
+    }
+
+    public void setWorkerUsername(String workerUsername) {
+        this.workerUsername = workerUsername;
+    }
+}
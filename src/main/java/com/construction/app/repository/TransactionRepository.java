@@ -2,53 +2,104 @@ package com.construction.app.repository;
 
 import com.construction.app.entity.Transaction;
 import com.construction.app.enums.TransactionStatus;
+import com.construction.app.repository.projection.BucketTotal;
+import com.construction.app.repository.projection.PerformanceRow;
+import com.construction.app.repository.projection.StatusBreakdown;
+import com.construction.app.repository.projection.StatusCount;
+import com.construction.app.repository.projection.TypeTotal;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+public interface TransactionRepository extends JpaRepository<Transaction, Long>, TransactionRepositoryCustom {
     List<Transaction> findByWorkerId(Long workerId);
 
-    List<Transaction> findByWorkerIdOrderByCreatedAtDesc(Long workerId);
+    // Row lock for reviews: the status read here decides the ledger, rollup and counter deltas
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Transaction t WHERE t.id = :id")
+    Optional<Transaction> findByIdForUpdate(@Param("id") Long id);
 
-    List<Transaction> findByManagerIdAndStatus(Long managerId, TransactionStatus status);
-
-    List<Transaction> findByManagerIdOrderByCreatedAtDesc(Long managerId);
-
-    List<Transaction> findByStatusOrderByCreatedAtDesc(TransactionStatus status);
-
-    // Worker history filters
-    List<Transaction> findByWorkerIdAndStatusOrderByCreatedAtDesc(Long workerId, TransactionStatus status);
-
-    // Manager history filters - only their assigned workers' transactions
-    List<Transaction> findByManagerIdAndStatusOrderByCreatedAtDesc(Long managerId, TransactionStatus status);
+    // Batch reviews lock their rows in id order, so two overlapping batches cannot deadlock; no joins,
+    // since Postgres will not lock the nullable side of an outer join and the users need no lock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Transaction t WHERE t.id IN :ids ORDER BY t.id")
+    List<Transaction> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
 
     // Today's hourly statistics
     List<Transaction> findByCreatedAtBetweenAndStatusOrderByCreatedAtAsc(LocalDateTime start, LocalDateTime end,
             TransactionStatus status);
 
-    // Paginated queries for Director Dashboard
-    Page<Transaction> findByStatusOrderByCreatedAtDesc(TransactionStatus status, Pageable pageable);
-
     // Director filtering queries
     Page<Transaction> findByStatusAndWorkerUsername(TransactionStatus status, String workerUsername, Pageable pageable);
 
     Page<Transaction> findByWorkerUsernameOrderByCreatedAtDesc(String workerUsername, Pageable pageable);
 
-    @Query("SELECT t FROM Transaction t WHERE t.worker.username = :workerUsername ORDER BY t.createdAt DESC")
-    Page<Transaction> findByWorkerUsernameQuery(@Param("workerUsername") String workerUsername, Pageable pageable);
-
-    @Query("SELECT t FROM Transaction t WHERE t.status = :status AND t.worker.username = :workerUsername ORDER BY t.createdAt DESC")
-    Page<Transaction> findByStatusAndWorkerUsernameQuery(@Param("status") TransactionStatus status, @Param("workerUsername") String workerUsername, Pageable pageable);
-
-    Page<Transaction> findAllByOrderByCreatedAtDesc(Pageable pageable);
-
     // Director summary stats
-    long countByStatus(TransactionStatus status);
+    @Query("SELECT t.status AS status, COUNT(t) AS transactionCount FROM Transaction t GROUP BY t.status")
+    List<StatusCount> countGroupedByStatus();
+
+    // Status totals plus per-manager and per-worker splits from a single scan
+    @Query(value = "SELECT t.status AS status, t.manager_id AS managerId, t.worker_id AS workerId, " +
+            "GROUPING(t.manager_id, t.worker_id) AS groupingLevel, COUNT(*) AS transactionCount " +
+            "FROM transactions t GROUP BY GROUPING SETS ((t.status), (t.status, t.manager_id), (t.status, t.worker_id))",
+            nativeQuery = true)
+    List<StatusBreakdown> countStatusBreakdown();
+
+    // Planner estimate of the table size, used when an exact total is not requested; a partitioned
+    // parent has no statistics of its own, so then the estimates of its partitions are summed
+    @Query(value = "SELECT COALESCE(SUM(GREATEST(c.reltuples, 0)), 0)::bigint FROM pg_class c " +
+            "WHERE (c.oid = 'transactions'::regclass AND c.relkind = 'r') OR c.oid IN " +
+            "(SELECT i.inhrelid FROM pg_inherits i WHERE i.inhparent = 'transactions'::regclass)", nativeQuery = true)
+    Long estimateRowCount();
+
+    @Query("SELECT MIN(t.createdAt) FROM Transaction t")
+    LocalDateTime findEarliestCreatedAt();
+
+    // Database-side aggregates for statistics
+    @Query("SELECT t.type AS type, SUM(t.amount) AS total, COUNT(t) AS transactionCount FROM Transaction t " +
+            "WHERE t.status = :status GROUP BY t.type")
+    List<TypeTotal> sumByTypeForStatus(@Param("status") TransactionStatus status);
+
+    @Query("SELECT t.type AS type, SUM(t.amount) AS total, COUNT(t) AS transactionCount FROM Transaction t " +
+            "WHERE t.status = :status AND t.createdAt >= :start AND t.createdAt < :end GROUP BY t.type")
+    List<TypeTotal> sumByTypeForStatusBetween(@Param("status") TransactionStatus status,
+            @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // unit is a Postgres date_trunc field: 'hour', 'day' or 'month'
+    @Query(value = "SELECT date_trunc(:unit, t.created_at) AS bucket, t.type AS type, SUM(t.amount) AS total, " +
+            "COUNT(*) AS transactionCount FROM transactions t " +
+            "WHERE t.status = :status AND t.created_at >= :start AND t.created_at < :end " +
+            "GROUP BY 1, 2 ORDER BY 1", nativeQuery = true)
+    List<BucketTotal> sumByBucketAndType(@Param("unit") String unit, @Param("status") String status,
+            @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // Per-user performance, aggregated before joining users so the join touches one row per group
+    @Query(value = "SELECT a.user_id AS userId, u.username AS username, u.full_name AS fullName, " +
+            "a.status AS status, a.type AS type, a.transaction_count AS transactionCount, a.total AS total, " +
+            "a.review_seconds AS reviewSeconds, a.reviewed_count AS reviewedCount FROM (" +
+            "SELECT t.worker_id AS user_id, t.status, t.type, COUNT(*) AS transaction_count, SUM(t.amount) AS total, " +
+            "SUM(EXTRACT(EPOCH FROM (t.reviewed_at - t.created_at))) AS review_seconds, " +
+            "COUNT(t.reviewed_at) AS reviewed_count FROM transactions t GROUP BY t.worker_id, t.status, t.type" +
+            ") a JOIN users u ON u.id = a.user_id", nativeQuery = true)
+    List<PerformanceRow> aggregatePerformanceByWorker();
+
+    @Query(value = "SELECT a.user_id AS userId, u.username AS username, u.full_name AS fullName, " +
+            "a.status AS status, a.type AS type, a.transaction_count AS transactionCount, a.total AS total, " +
+            "a.review_seconds AS reviewSeconds, a.reviewed_count AS reviewedCount FROM (" +
+            "SELECT t.manager_id AS user_id, t.status, t.type, COUNT(*) AS transaction_count, SUM(t.amount) AS total, " +
+            "SUM(EXTRACT(EPOCH FROM (t.reviewed_at - t.created_at))) AS review_seconds, " +
+            "COUNT(t.reviewed_at) AS reviewed_count FROM transactions t WHERE t.manager_id IS NOT NULL " +
+            "GROUP BY t.manager_id, t.status, t.type" +
+            ") a JOIN users u ON u.id = a.user_id", nativeQuery = true)
+    List<PerformanceRow> aggregatePerformanceByManager();
 }
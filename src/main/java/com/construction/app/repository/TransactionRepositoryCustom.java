@@ -0,0 +1,20 @@
+package com.construction.app.repository;
+
+import com.construction.app.repository.projection.TransactionRow;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface TransactionRepositoryCustom {
+    List<TransactionRow> findAllByFilter(TransactionFilter filter);
+
+    // Offset page, newest first; kept for the page-number endpoints
+    List<TransactionRow> findSlice(TransactionFilter filter, int offset, int limit);
+
+    // Keyset page: rows strictly after the cursor (or before it when backward), newest first
+    List<TransactionRow> findPage(TransactionFilter filter, TransactionCursor cursor, boolean backward, int limit);
+
+    // Forward-only cursor over all matching rows; must be consumed inside a transaction and closed
+    Stream<TransactionRow> streamByFilter(TransactionFilter filter, int fetchSize);
+
+    long countByFilter(TransactionFilter filter);
+}
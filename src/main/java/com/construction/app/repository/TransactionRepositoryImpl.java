@@ -0,0 +1,117 @@
+package com.construction.app.repository;
+
+import com.construction.app.repository.projection.TransactionRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class TransactionRepositoryImpl implements TransactionRepositoryCustom {
+    // Explicit joins and a constructor projection: no User entities are hydrated for list reads
+    private static final String SELECT_ROWS = "SELECT new com.construction.app.repository.projection.TransactionRow("
+            + "t.id, w.id, w.fullName, m.id, m.fullName, t.type, t.status, t.amount, t.currency, t.product, "
+            + "t.source, t.description, t.weightKg, t.managerComment, t.createdAt, t.reviewedAt) "
+            + "FROM Transaction t JOIN t.worker w LEFT JOIN t.manager m WHERE 1 = 1";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TransactionRow> findAllByFilter(TransactionFilter filter) {
+        return buildQuery(filter, null, false).getResultList();
+    }
+
+    @Override
+    public List<TransactionRow> findSlice(TransactionFilter filter, int offset, int limit) {
+        TypedQuery<TransactionRow> query = buildQuery(filter, null, false);
+        query.setFirstResult(offset);
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    @Override
+    public List<TransactionRow> findPage(TransactionFilter filter, TransactionCursor cursor, boolean backward, int limit) {
+        TypedQuery<TransactionRow> query = buildQuery(filter, cursor, backward);
+        query.setMaxResults(limit);
+
+        List<TransactionRow> rows = query.getResultList();
+        if (backward) {
+            rows = new ArrayList<>(rows);
+            Collections.reverse(rows);
+        }
+        return rows;
+    }
+
+    @Override
+    public Stream<TransactionRow> streamByFilter(TransactionFilter filter, int fetchSize) {
+        TypedQuery<TransactionRow> query = buildQuery(filter, null, false);
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+        return query.getResultStream();
+    }
+
+    @Override
+    public long countByFilter(TransactionFilter filter) {
+        StringBuilder jpql = new StringBuilder("SELECT COUNT(t) FROM Transaction t JOIN t.worker w WHERE 1 = 1");
+        appendFilter(jpql, filter);
+
+        TypedQuery<Long> query = entityManager.createQuery(jpql.toString(), Long.class);
+        bindFilter(query, filter);
+        return query.getSingleResult();
+    }
+
+    private TypedQuery<TransactionRow> buildQuery(TransactionFilter filter, TransactionCursor cursor, boolean backward) {
+        StringBuilder jpql = new StringBuilder(SELECT_ROWS);
+        appendFilter(jpql, filter);
+        if (cursor != null) {
+            // The outer bound on createdAt alone lets Postgres turn the seek into an index range scan
+            jpql.append(backward
+                    ? " AND t.createdAt >= :cursorCreatedAt AND (t.createdAt > :cursorCreatedAt OR t.id > :cursorId)"
+                    : " AND t.createdAt <= :cursorCreatedAt AND (t.createdAt < :cursorCreatedAt OR t.id < :cursorId)");
+        }
+        jpql.append(backward ? " ORDER BY t.createdAt ASC, t.id ASC" : " ORDER BY t.createdAt DESC, t.id DESC");
+
+        TypedQuery<TransactionRow> query = entityManager.createQuery(jpql.toString(), TransactionRow.class);
+        bindFilter(query, filter);
+        if (cursor != null) {
+            query.setParameter("cursorCreatedAt", cursor.getCreatedAt());
+            query.setParameter("cursorId", cursor.getId());
+        }
+        return query;
+    }
+
+    // Only present filters become predicates, so each combination gets its own plan
+    private void appendFilter(StringBuilder jpql, TransactionFilter filter) {
+        if (filter.getWorkerId() != null) {
+            jpql.append(" AND t.worker.id = :workerId");
+        }
+        if (filter.getManagerId() != null) {
+            jpql.append(" AND t.manager.id = :managerId");
+        }
+        if (filter.getStatus() != null) {
+            jpql.append(" AND t.status = :status");
+        }
+        if (filter.getWorkerUsername() != null) {
+            jpql.append(" AND w.username = :workerUsername");
+        }
+    }
+
+    private void bindFilter(TypedQuery<?> query, TransactionFilter filter) {
+        if (filter.getWorkerId() != null) {
+            query.setParameter("workerId", filter.getWorkerId());
+        }
+        if (filter.getManagerId() != null) {
+            query.setParameter("managerId", filter.getManagerId());
+        }
+        if (filter.getStatus() != null) {
+            query.setParameter("status", filter.getStatus());
+        }
+        if (filter.getWorkerUsername() != null) {
+            query.setParameter("workerUsername", filter.getWorkerUsername());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.construction.app.repository.projection;
+
+import com.construction.app.enums.TransactionType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public interface BucketTotal {
+    LocalDateTime getBucket();
+
+    TransactionType getType();
+
+    BigDecimal getTotal();
+
+    Long getTransactionCount();
+}
@@ -0,0 +1,26 @@
+package com.construction.app.repository.projection;
+
+import com.construction.app.enums.TransactionStatus;
+import com.construction.app.enums.TransactionType;
+import java.math.BigDecimal;
+
+public interface PerformanceRow {
+    Long getUserId();
+
+    String getUsername();
+
+    String getFullName();
+
+    TransactionStatus getStatus();
+
+    TransactionType getType();
+
+    Long getTransactionCount();
+
+    BigDecimal getTotal();
+
+    // Sum of (reviewedAt - createdAt) in seconds over reviewed rows of the group
+    Double getReviewSeconds();
+
+    Long getReviewedCount();
+}
@@ -0,0 +1,17 @@
+package com.construction.app.repository.projection;
+
+import com.construction.app.enums.TransactionStatus;
+
+// One row of the grouping-sets histogram; groupingLevel tells which set it belongs to
+// (3 = status only, 1 = status and manager, 2 = status and worker)
+public interface StatusBreakdown {
+    TransactionStatus getStatus();
+
+    Long getManagerId();
+
+    Long getWorkerId();
+
+    Integer getGroupingLevel();
+
+    Long getTransactionCount();
+}
@@ -0,0 +1,9 @@
+package com.construction.app.repository.projection;
+
+import com.construction.app.enums.TransactionStatus;
+
+public interface StatusCount {
+    TransactionStatus getStatus();
+
+    Long getTransactionCount();
+}
@@ -0,0 +1,112 @@
+package com.construction.app.repository.projection;
+
+import com.construction.app.enums.TransactionStatus;
+import com.construction.app.enums.TransactionType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Flat read model for the list queries: only the columns TransactionResponse needs, no managed entities
+public class TransactionRow {
+    private final Long id;
+    private final Long workerId;
+    private final String workerName;
+    private final Long managerId;
+    private final String managerName;
+    private final TransactionType type;
+    private final TransactionStatus status;
+    private final BigDecimal amount;
+    private final String currency;
+    private final String product;
+    private final String source;
+    private final String description;
+    private final BigDecimal weightKg;
+    private final String managerComment;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime reviewedAt;
+
+    public TransactionRow(Long id, Long workerId, String workerName, Long managerId, String managerName,
+            TransactionType type, TransactionStatus status, BigDecimal amount, String currency, String product,
+            String source, String description, BigDecimal weightKg, String managerComment,
+            LocalDateTime createdAt, LocalDateTime reviewedAt) {
+        this.id = id;
+        this.workerId = workerId;
+        this.workerName = workerName;
+        this.managerId = managerId;
+        this.managerName = managerName;
+        this.type = type;
+        this.status = status;
+        this.amount = amount;
+        this.currency = currency;
+        this.product = product;
+        this.source = source;
+        this.description = description;
+        this.weightKg = weightKg;
+        this.managerComment = managerComment;
+        this.createdAt = createdAt;
+        this.reviewedAt = reviewedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getWorkerId() {
+        return workerId;
+    }
+
+    public String getWorkerName() {
+        return workerName;
+    }
+
+    public Long getManagerId() {
+        return managerId;
+    }
+
+    public String getManagerName() {
+        return managerName;
+    }
+
+    public TransactionType getType() {
+        return type;
+    }
+
+    public TransactionStatus getStatus() {
+        return status;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public String getProduct() {
+        return product;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public BigDecimal getWeightKg() {
+        return weightKg;
+    }
+
+    public String getManagerComment() {
+        return managerComment;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getReviewedAt() {
+        return reviewedAt;
+    }
+}
@@ -0,0 +1,12 @@
+package com.construction.app.repository.projection;
+
+import com.construction.app.enums.TransactionType;
+import java.math.BigDecimal;
+
+public interface TypeTotal {
+    TransactionType getType();
+
+    BigDecimal getTotal();
+
+    Long getTransactionCount();
+}
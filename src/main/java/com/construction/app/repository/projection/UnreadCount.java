@@ -0,0 +1,7 @@
+package com.construction.app.repository.projection;
+
+public interface UnreadCount {
+    Long getWorkerId();
+
+    Long getUnreadCount();
+}
@@ -0,0 +1,45 @@
+package com.construction.app.security;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+// Principal set by JwtAuthenticationFilter; carries the ids so handlers need no user lookup
+public class AuthenticatedUser implements AuthenticatedPrincipal {
+    private final Long id;
+    private final String username;
+    private final String role;
+    // Assigned manager at the time the token was issued (or the user was cached)
+    private final Long managerId;
+
+    public AuthenticatedUser(Long id, String username, String role, Long managerId) {
+        this.id = id;
+        this.username = username;
+        this.role = role;
+        this.managerId = managerId;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public Long getManagerId() {
+        return managerId;
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    @Override
+    public String toString() {
+        return username;
+    }
+}
@@ -1,5 +1,6 @@
 package com.construction.app.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,27 +19,40 @@ import java.util.List;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    private static final String STREAM_PATH = "/api/notifications/stream";
+
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
 
+    @Autowired
+    private UserIdCache userIdCache;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
         try {
             String jwt = extractJwtFromRequest(request);
 
-            if (jwt != null && jwtTokenProvider.validateToken(jwt)) {
-                String username = jwtTokenProvider.getUsernameFromToken(jwt);
-                String role = jwtTokenProvider.getRoleFromToken(jwt);
+            Claims claims = jwt != null ? jwtTokenProvider.parseClaims(jwt) : null;
 
-                List<SimpleGrantedAuthority> authorities = new ArrayList<>();
-                authorities.add(new SimpleGrantedAuthority("ROLE_" + role));
+            if (claims != null) {
+                String username = claims.getSubject();
+                String role = claims.get("role", String.class);
+                Long userId = jwtTokenProvider.getUserId(claims);
+                AuthenticatedUser principal = userId != null
+                        ? new AuthenticatedUser(userId, username, role, jwtTokenProvider.getManagerId(claims))
+                        : userIdCache.resolve(username, role);
 
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(username, null, authorities);
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                if (principal != null) {
+                    List<SimpleGrantedAuthority> authorities = new ArrayList<>();
+                    authorities.add(new SimpleGrantedAuthority("ROLE_" + role));
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(principal, null, authorities);
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
             }
         } catch (Exception e) {
             logger.error("Could not set user authentication in security context", e);
@@ -52,6 +66,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
             return bearerToken.substring(7);
         }
+        // Browsers' EventSource cannot set headers; accept a query token for the notification stream only
+        if (STREAM_PATH.equals(request.getRequestURI())) {
+            return request.getParameter("access_token");
+        }
         return null;
     }
 }
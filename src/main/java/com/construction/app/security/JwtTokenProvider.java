@@ -1,14 +1,24 @@
 package com.construction.app.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class JwtTokenProvider {
@@ -18,50 +28,109 @@ public class JwtTokenProvider {
     @Value("${app.jwtExpirationMs:86400000}")
     private int jwtExpirationMs;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    @Value("${app.jwt.claims-cache-size:10000}")
+    private int claimsCacheSize = 10000;
+
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    // Verified claims keyed by the token's SHA-256, so a polled token is only verified once
+    private final Map<String, Claims> verifiedClaims = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
     }
 
-    public String generateToken(String username, String role) {
+    public String generateToken(String username, String role, Long userId, Long managerId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
 
         return Jwts.builder()
                 .setSubject(username)
                 .claim("role", role)
+                .claim("uid", userId)
+                .claim("mid", managerId)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    // Verifies signature and expiry once and returns the claims, or null if the token is not valid
+    public Claims parseClaims(String token) {
+        String key = hash(token);
+        Claims claims = verifiedClaims.get(key);
+        if (claims != null) {
+            if (isExpired(claims)) {
+                verifiedClaims.remove(key);
+                return null;
+            }
+            return claims;
+        }
+
+        try {
+            claims = parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+
+        if (verifiedClaims.size() >= claimsCacheSize) {
+            evict();
+        }
+        verifiedClaims.put(key, claims);
+        return claims;
+    }
+
     public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.getSubject();
+        Claims claims = parseClaims(token);
+        return claims != null ? claims.getSubject() : null;
     }
 
     public String getRoleFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.get("role", String.class);
+        Claims claims = parseClaims(token);
+        return claims != null ? claims.get("role", String.class) : null;
+    }
+
+    // Null for tokens issued before the id claims were added
+    public Long getUserId(Claims claims) {
+        return asLong(claims.get("uid"));
+    }
+
+    public Long getManagerId(Claims claims) {
+        return asLong(claims.get("mid"));
     }
 
     public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
+
+    private Long asLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : null;
+    }
+
+    private boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.before(new Date());
+    }
+
+    // Drop expired tokens first; if the cache is still full, drop arbitrary entries down to 3/4 capacity
+    private void evict() {
+        verifiedClaims.values().removeIf(this::isExpired);
+        Iterator<String> keys = verifiedClaims.keySet().iterator();
+        while (verifiedClaims.size() > claimsCacheSize * 3 / 4 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private String hash(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
     }
 }
@@ -0,0 +1,21 @@
+package com.construction.app.security;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+public final class SecurityUtils {
+    private SecurityUtils() {
+    }
+
+    public static AuthenticatedUser getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser)) {
+            throw new RuntimeException("Authenticated user not found");
+        }
+        return (AuthenticatedUser) authentication.getPrincipal();
+    }
+
+    public static Long getCurrentUserId() {
+        return getCurrentUser().getId();
+    }
+}
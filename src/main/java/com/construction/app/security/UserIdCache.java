@@ -0,0 +1,41 @@
+package com.construction.app.security;
+
+import com.construction.app.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Ids for tokens issued before they carried uid/mid claims; one lookup per username, then memory
+@Component
+public class UserIdCache {
+    private static final int MAX_ENTRIES = 10000;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final Map<String, AuthenticatedUser> usersByName = new ConcurrentHashMap<>();
+
+    public AuthenticatedUser resolve(String username, String role) {
+        AuthenticatedUser cached = usersByName.get(username);
+        if (cached == null) {
+            cached = userRepository.findByUsername(username)
+                    .map(user -> new AuthenticatedUser(user.getId(), user.getUsername(), user.getRole().toString(),
+                            user.getAssignedManager() != null ? user.getAssignedManager().getId() : null))
+                    .orElse(null);
+            if (cached == null) {
+                return null;
+            }
+            if (usersByName.size() >= MAX_ENTRIES) {
+                usersByName.clear();
+            }
+            usersByName.put(username, cached);
+        }
+        return new AuthenticatedUser(cached.getId(), username, role, cached.getManagerId());
+    }
+
+    public void evict(String username) {
+        usersByName.remove(username);
+    }
+}
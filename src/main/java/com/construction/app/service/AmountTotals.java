@@ -0,0 +1,58 @@
+package com.construction.app.service;
+
+import com.construction.app.dto.StatisticResponse;
+import com.construction.app.enums.TransactionType;
+import com.construction.app.repository.projection.TypeTotal;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+// Income/spending/count folded from grouped-by-type aggregate rows
+class AmountTotals {
+    private BigDecimal income = BigDecimal.ZERO;
+    private BigDecimal spending = BigDecimal.ZERO;
+    private long count;
+
+    static AmountTotals of(List<TypeTotal> rows) {
+        AmountTotals totals = new AmountTotals();
+        for (TypeTotal row : rows) {
+            totals.add(row.getType(), row.getTotal(), row.getTransactionCount());
+        }
+        return totals;
+    }
+
+    void add(TransactionType type, BigDecimal total, long rowCount) {
+        if (type == TransactionType.INCOME) {
+            income = income.add(total);
+        } else if (type == TransactionType.SPENDING) {
+            spending = spending.add(total);
+        }
+        count += rowCount;
+    }
+
+    BigDecimal getIncome() {
+        return income;
+    }
+
+    BigDecimal getSpending() {
+        return spending;
+    }
+
+    BigDecimal getNetProfit() {
+        return income.subtract(spending);
+    }
+
+    long getCount() {
+        return count;
+    }
+
+    StatisticResponse toResponse(String asOfDate) {
+        StatisticResponse response = new StatisticResponse();
+        response.setTotalIncome(income.toString());
+        response.setTotalSpending(spending.toString());
+        response.setNetProfit(getNetProfit().toString());
+        response.setTransactionCount(count);
+        response.setAsOfDate(asOfDate);
+        return response;
+    }
+}
@@ -39,7 +39,9 @@ public class AuthService {
             throw new RuntimeException("Invalid password");
         }
 
-        String token = jwtTokenProvider.generateToken(user.getUsername(), user.getRole().toString());
+        Long managerId = user.getAssignedManager() != null ? user.getAssignedManager().getId() : null;
+        String token = jwtTokenProvider.generateToken(user.getUsername(), user.getRole().toString(), user.getId(),
+                managerId);
 
         return new LoginResponse(token, user.getId(), user.getUsername(), user.getRole().toString(),
                 user.getFullName());
@@ -0,0 +1,171 @@
+package com.construction.app.service;
+
+import com.construction.app.enums.TransactionStatus;
+import com.construction.app.enums.TransactionType;
+import com.construction.app.repository.TransactionRepository;
+import com.construction.app.repository.projection.BucketTotal;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Accepted income/spending of the last 24 hours, one slot per absolute hour; a slot whose hour has
+// passed out of the window is recycled by the first write for the new hour
+@Component
+public class HourlyGrowthBuffer {
+    private static final int HOURS = 24;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    private volatile AtomicReferenceArray<Bucket> buckets = new AtomicReferenceArray<>(HOURS);
+    // Array being filled by a running rebuild; adds go to it as well so none is lost when it replaces buckets
+    private volatile AtomicReferenceArray<Bucket> rebuilding;
+    private final AtomicLong version = new AtomicLong();
+    private volatile Rendered rendered;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    // One grouped query over the window; the filled array replaces the current one in a single write.
+    // Adds made while the query runs are applied to the new array too, since the query may not see them
+    public synchronized void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        long currentHour = epochHour(now);
+        LocalDateTime windowStart = hourStart(currentHour - (HOURS - 1));
+
+        AtomicReferenceArray<Bucket> fresh = new AtomicReferenceArray<>(HOURS);
+        rebuilding = fresh;
+        try {
+            for (BucketTotal total : transactionRepository.sumByBucketAndType("hour",
+                    TransactionStatus.ACCEPTED.name(), windowStart, now)) {
+                add(fresh, epochHour(total.getBucket()), currentHour, total.getType(), total.getTotal());
+            }
+            buckets = fresh;
+        } finally {
+            rebuilding = null;
+        }
+        version.incrementAndGet();
+    }
+
+    // Signed amount of a transaction created at createdAt that entered (+) or left (-) ACCEPTED; called after
+    // commit. A change committed just before a rebuild reads the table but added just after it started is
+    // counted twice until the next rebuild, which is preferable to losing changes committed during the query
+    public void add(LocalDateTime createdAt, TransactionType type, BigDecimal amount) {
+        long hour = epochHour(createdAt);
+        long currentHour = epochHour(LocalDateTime.now());
+        // Read in the opposite order rebuild() publishes them: once rebuilding is cleared, buckets is the new array
+        AtomicReferenceArray<Bucket> next = rebuilding;
+        AtomicReferenceArray<Bucket> current = buckets;
+        boolean changed = add(current, hour, currentHour, type, amount);
+        if (next != null && next != current) {
+            add(next, hour, currentHour, type, amount);
+        }
+        if (changed) {
+            version.incrementAndGet();
+        }
+    }
+
+    // Oldest hour first, always 24 entries ending with the current hour
+    public List<Map<String, Object>> getHourlyGrowth() {
+        long currentHour = epochHour(LocalDateTime.now());
+        long currentVersion = version.get();
+        Rendered cached = rendered;
+        if (cached != null && cached.hour == currentHour && cached.version == currentVersion) {
+            return cached.data;
+        }
+
+        AtomicReferenceArray<Bucket> current = buckets;
+        List<Map<String, Object>> data = new ArrayList<>(HOURS);
+        for (long hour = currentHour - (HOURS - 1); hour <= currentHour; hour++) {
+            Bucket bucket = current.get(slot(hour));
+            BigDecimal income = bucket != null && bucket.hour == hour ? bucket.income : BigDecimal.ZERO;
+            BigDecimal spending = bucket != null && bucket.hour == hour ? bucket.spending : BigDecimal.ZERO;
+
+            LocalDateTime start = hourStart(hour);
+            Map<String, Object> hourData = new LinkedHashMap<>();
+            hourData.put("hour", String.format("%02d:00", start.getHour()));
+            hourData.put("bucket", start.toString());
+            hourData.put("income", income);
+            hourData.put("spending", spending);
+            hourData.put("netProfit", income.subtract(spending));
+            data.add(Collections.unmodifiableMap(hourData));
+        }
+
+        data = Collections.unmodifiableList(data);
+        rendered = new Rendered(currentHour, currentVersion, data);
+        return data;
+    }
+
+    private static boolean add(AtomicReferenceArray<Bucket> target, long hour, long currentHour,
+                               TransactionType type, BigDecimal amount) {
+        if (hour > currentHour || hour <= currentHour - HOURS) {
+            return false;
+        }
+
+        int slot = slot(hour);
+        while (true) {
+            Bucket existing = target.get(slot);
+            if (existing != null && existing.hour > hour) {
+                return false; // the slot already moved on to a newer hour
+            }
+            Bucket base = existing != null && existing.hour == hour
+                    ? existing : new Bucket(hour, BigDecimal.ZERO, BigDecimal.ZERO);
+            Bucket updated = type == TransactionType.INCOME
+                    ? new Bucket(hour, base.income.add(amount), base.spending)
+                    : new Bucket(hour, base.income, base.spending.add(amount));
+            if (target.compareAndSet(slot, existing, updated)) {
+                return true;
+            }
+        }
+    }
+
+    private static int slot(long hour) {
+        return (int) Math.floorMod(hour, HOURS);
+    }
+
+    private static long epochHour(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 3600);
+    }
+
+    private static LocalDateTime hourStart(long hour) {
+        return LocalDateTime.ofEpochSecond(hour * 3600, 0, ZoneOffset.UTC);
+    }
+
+    private static final class Bucket {
+        private final long hour;
+        private final BigDecimal income;
+        private final BigDecimal spending;
+
+        Bucket(long hour, BigDecimal income, BigDecimal spending) {
+            this.hour = hour;
+            this.income = income;
+            this.spending = spending;
+        }
+    }
+
+    private static final class Rendered {
+        private final long hour;
+        private final long version;
+        private final List<Map<String, Object>> data;
+
+        Rendered(long hour, long version, List<Map<String, Object>> data) {
+            this.hour = hour;
+            this.version = version;
+            this.data = data;
+        }
+    }
+}
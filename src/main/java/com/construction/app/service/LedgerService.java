@@ -0,0 +1,99 @@
+package com.construction.app.service;
+
+import com.construction.app.entity.LedgerTotals;
+import com.construction.app.enums.TransactionStatus;
+import com.construction.app.enums.TransactionType;
+import com.construction.app.repository.LedgerTotalsRepository;
+import com.construction.app.repository.TransactionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Service
+public class LedgerService {
+    private static final Logger log = LoggerFactory.getLogger(LedgerService.class);
+
+    private static final Long LEDGER_ID = 1L;
+
+    @Autowired
+    private LedgerTotalsRepository ledgerTotalsRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private StatisticsCache statisticsCache;
+
+    @Transactional
+    public LedgerTotals getTotals() {
+        return ledgerTotalsRepository.findById(LEDGER_ID).orElseGet(() -> {
+            reconcile();
+            return ledgerTotalsRepository.findById(LEDGER_ID).orElseThrow();
+        });
+    }
+
+    // Must run inside the caller's transaction so the totals commit or roll back with the review
+    @Transactional
+    public void applyDelta(TransactionType type, BigDecimal amount, int sign) {
+        BigDecimal signedAmount = sign < 0 ? amount.negate() : amount;
+        BigDecimal incomeDelta = type == TransactionType.INCOME ? signedAmount : BigDecimal.ZERO;
+        BigDecimal spendingDelta = type == TransactionType.SPENDING ? signedAmount : BigDecimal.ZERO;
+        applyDeltas(incomeDelta, spendingDelta, sign);
+    }
+
+    // Net change of several reviews in one UPDATE
+    @Transactional
+    public void applyDeltas(BigDecimal incomeDelta, BigDecimal spendingDelta, long countDelta) {
+        int updated = ledgerTotalsRepository.applyDelta(LEDGER_ID, incomeDelta, spendingDelta, countDelta,
+                LocalDateTime.now());
+        if (updated == 0) {
+            // Ledger row not created yet; seeding from the table already includes this change
+            reconcile();
+        }
+    }
+
+    // Holds the ledger row until the caller's transaction ends. Reviews update it before anything else derived
+    // from accepted transactions, so they queue behind the caller and in-flight ones have committed once this returns
+    @Transactional
+    public void lockTotals() {
+        if (ledgerTotalsRepository.findByIdForUpdate(LEDGER_ID).isEmpty()) {
+            reconcile();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.ledger.reconcile-cron:0 */15 * * * *}")
+    @Transactional
+    public void reconcile() {
+        ledgerTotalsRepository.insertIfAbsent(LEDGER_ID, LocalDateTime.now());
+
+        // Lock the row first so reviews committing meanwhile queue behind us instead of being overwritten
+        LedgerTotals totals = ledgerTotalsRepository.findByIdForUpdate(LEDGER_ID).orElseThrow();
+
+        AmountTotals accepted = AmountTotals.of(transactionRepository.sumByTypeForStatus(TransactionStatus.ACCEPTED));
+        BigDecimal totalIncome = accepted.getIncome();
+        BigDecimal totalSpending = accepted.getSpending();
+        long transactionCount = accepted.getCount();
+
+        if (totals.getTotalIncome().compareTo(totalIncome) != 0
+                || totals.getTotalSpending().compareTo(totalSpending) != 0
+                || totals.getTransactionCount() != transactionCount) {
+            log.warn("Ledger totals drifted (income {} -> {}, spending {} -> {}, count {} -> {}), correcting",
+                    totals.getTotalIncome(), totalIncome, totals.getTotalSpending(), totalSpending,
+                    totals.getTransactionCount(), transactionCount);
+            totals.setTotalIncome(totalIncome);
+            totals.setTotalSpending(totalSpending);
+            totals.setTransactionCount(transactionCount);
+            totals.setUpdatedAt(LocalDateTime.now());
+            AfterCommit.run(statisticsCache::invalidate);
+        }
+    }
+}
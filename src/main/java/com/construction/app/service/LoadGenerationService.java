@@ -0,0 +1,325 @@
+package com.construction.app.service;
+
+import com.construction.app.dto.LoadGenerationRequest;
+import com.construction.app.dto.LoadGenerationStatus;
+import com.construction.app.entity.User;
+import com.construction.app.enums.TransactionStatus;
+import com.construction.app.enums.TransactionType;
+import com.construction.app.enums.UserRole;
+import com.construction.app.repository.UserRepository;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// Synthetic transaction datasets for benchmarking: rows are generated in parallel chunks and written with COPY
+@Service
+public class LoadGenerationService {
+    private static final Logger log = LoggerFactory.getLogger(LoadGenerationService.class);
+
+    private static final String COPY_SQL = "COPY transactions (id, worker_id, manager_id, type, status, amount, "
+            + "currency, product, source, description, weight_kg, created_at, reviewed_at) FROM STDIN WITH (FORMAT csv)";
+
+    // Must match the allocationSize of transactions_seq: each nextval reserves the block (value - 50, value]
+    private static final int ID_BLOCK = 50;
+
+    private static final String[][] INCOME_DATA = {
+            {"Project Payment", "Client A", "Construction project milestone"},
+            {"Material Sales", "Customer B", "Building materials sale"},
+            {"Service Fee", "Client C", "Consulting services"},
+            {"Equipment Rental", "Company D", "Heavy equipment rental"},
+            {"Contract Work", "Client E", "Contract completion payment"},
+            {"Maintenance", "Client F", "Service and maintenance payment"}
+    };
+
+    private static final String[][] SPENDING_DATA = {
+            {"Materials Purchase", "Supplier A", "Raw materials for construction"},
+            {"Fuel Costs", "Gas Station", "Vehicle fuel expenses"},
+            {"Equipment Maintenance", "Repair Shop", "Machinery maintenance"},
+            {"Travel Expenses", "Travel Co", "Business travel costs"},
+            {"Site Utilities", "Utility Co", "Temporary site electricity and water"},
+            {"Wages", "Payroll", "Worker wages and overtime"}
+    };
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StatisticService statisticService;
+
+    @Autowired
+    private SnapshotBackfillService snapshotBackfillService;
+
+    @Autowired
+    private TransactionPartitionService transactionPartitionService;
+
+    @Value("${app.loadgen.threads:4}")
+    private int defaultThreads;
+
+    @Value("${app.loadgen.chunk-size:50000}")
+    private int chunkSize;
+
+    private LoadGenerationStatus current;
+
+    // Runs in the background; progress is available from getStatus()
+    public LoadGenerationStatus start(LoadGenerationRequest request) {
+        List<WorkerRef> workers = loadWorkers();
+        LoadGenerationStatus status = claim(request);
+        Thread.ofPlatform().name("load-generator").start(() -> run(request, workers, status));
+        return status;
+    }
+
+    public LoadGenerationStatus generate(LoadGenerationRequest request) {
+        List<WorkerRef> workers = loadWorkers();
+        LoadGenerationStatus status = claim(request);
+        run(request, workers, status);
+        if (LoadGenerationStatus.FAILED.equals(status.getState())) {
+            throw new RuntimeException("Load generation failed: " + status.getError());
+        }
+        return status;
+    }
+
+    public synchronized LoadGenerationStatus getStatus() {
+        return current;
+    }
+
+    private synchronized LoadGenerationStatus claim(LoadGenerationRequest request) {
+        validate(request);
+        if (current != null && !LoadGenerationStatus.COMPLETED.equals(current.getState())
+                && !LoadGenerationStatus.FAILED.equals(current.getState())) {
+            throw new IllegalStateException("Load generation already running");
+        }
+        current = new LoadGenerationStatus(request.getTotal(), request.getSeed());
+        return current;
+    }
+
+    private void validate(LoadGenerationRequest request) {
+        if (request.getTotal() <= 0 || request.getDays() <= 0) {
+            throw new IllegalArgumentException("total and days must be > 0");
+        }
+        if (request.getIncomePercent() < 0 || request.getIncomePercent() > 100
+                || request.getPendingPercent() < 0 || request.getRejectedPercent() < 0
+                || request.getPendingPercent() + request.getRejectedPercent() > 100) {
+            throw new IllegalArgumentException("percentages must be between 0 and 100");
+        }
+        if (request.getThreads() != null && (request.getThreads() < 1 || request.getThreads() > 64)) {
+            throw new IllegalArgumentException("threads must be between 1 and 64");
+        }
+    }
+
+    private List<WorkerRef> loadWorkers() {
+        List<WorkerRef> workers = new ArrayList<>();
+        for (User worker : userRepository.findByRole(UserRole.WORKER)) {
+            Long managerId = worker.getAssignedManager() != null ? worker.getAssignedManager().getId() : null;
+            workers.add(new WorkerRef(worker.getId(), managerId));
+        }
+        if (workers.isEmpty()) {
+            throw new IllegalStateException("No workers found");
+        }
+        // A stable order keeps the dataset reproducible for a given seed
+        workers.sort(Comparator.comparingLong(WorkerRef::id));
+        return workers;
+    }
+
+    private void run(LoadGenerationRequest request, List<WorkerRef> workers, LoadGenerationStatus status) {
+        LocalDate endDate = request.getEndDate() != null ? request.getEndDate() : LocalDate.now();
+        LocalDate startDate = endDate.minusDays(request.getDays() - 1L);
+        int threads = request.getThreads() != null ? request.getThreads() : Math.max(1, defaultThreads);
+        long chunks = (request.getTotal() + chunkSize - 1) / chunkSize;
+
+        log.info("Generating {} transactions over {} days (seed {}, {} threads)",
+                request.getTotal(), request.getDays(), request.getSeed(), threads);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        boolean refreshStarted = false;
+        try {
+            // Months older than the partitioned range would otherwise all land in the default partition
+            transactionPartitionService.ensurePartitions(startDate, endDate);
+
+            List<Future<?>> pending = new ArrayList<>();
+            for (long chunk = 0; chunk < chunks; chunk++) {
+                long firstRow = chunk * chunkSize;
+                int rows = (int) Math.min(chunkSize, request.getTotal() - firstRow);
+                long chunkIndex = chunk;
+                pending.add(executor.submit(() -> {
+                    writeChunk(request, workers, startDate, chunkIndex, firstRow, rows, status);
+                    return null;
+                }));
+            }
+            for (Future<?> chunk : pending) {
+                chunk.get();
+            }
+
+            // Rows went in behind the JPA layer, so every derived view is rebuilt once at the end
+            status.setState(LoadGenerationStatus.REFRESHING);
+            refreshStarted = true;
+            refreshDerived(startDate, endDate);
+
+            status.setState(LoadGenerationStatus.COMPLETED);
+            log.info("Generated {} transactions in {} ms ({} rows/s)",
+                    status.getInserted(), status.getElapsedMs(), status.getRowsPerSecond());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(status, "interrupted");
+        } catch (ExecutionException e) {
+            log.error("Load generation failed", e.getCause());
+            fail(status, e.getCause().getMessage());
+        } catch (RuntimeException e) {
+            log.error("Load generation failed", e);
+            fail(status, e.getMessage());
+        } finally {
+            executor.shutdownNow();
+            // Chunks committed before a failure stay in the table, so the derived views still have to follow them
+            if (!refreshStarted) {
+                refreshAfterFailure(executor, status, startDate, endDate);
+            }
+            status.setFinishedAt(LocalDateTime.now());
+        }
+    }
+
+    private void refreshDerived(LocalDate startDate, LocalDate endDate) {
+        statisticService.refreshDerivedStatistics();
+        snapshotBackfillService.rebuildRangeWhenIdle(startDate, endDate);
+    }
+
+    private void refreshAfterFailure(ExecutorService executor, LoadGenerationStatus status,
+                                     LocalDate startDate, LocalDate endDate) {
+        try {
+            // Chunks already inside COPY finish their write; wait for them so the refresh sees every committed row
+            if (!executor.awaitTermination(10, TimeUnit.MINUTES)) {
+                log.warn("Load generation chunks still running, refreshing derived statistics anyway");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (status.getInserted() == 0) {
+            return;
+        }
+        try {
+            refreshDerived(startDate, endDate);
+        } catch (RuntimeException e) {
+            log.error("Refreshing derived statistics after failed load generation failed", e);
+        }
+    }
+
+    private void fail(LoadGenerationStatus status, String error) {
+        status.setError(error);
+        status.setState(LoadGenerationStatus.FAILED);
+    }
+
+    // Each chunk draws from its own seeded stream, so the output does not depend on thread scheduling
+    private void writeChunk(LoadGenerationRequest request, List<WorkerRef> workers, LocalDate startDate,
+                            long chunkIndex, long firstRow, int rows, LoadGenerationStatus status) throws Exception {
+        SplittableRandom random = new SplittableRandom(request.getSeed() * 1_000_003L + chunkIndex);
+        long[] ids = allocateIds(rows);
+        StringBuilder csv = new StringBuilder(rows * 160);
+
+        for (int i = 0; i < rows; i++) {
+            // Rows are spread evenly over the day range, at random times within working hours
+            long dayIndex = (firstRow + i) * request.getDays() / request.getTotal();
+            LocalDateTime createdAt = startDate.plusDays(dayIndex)
+                    .atTime(8 + random.nextInt(13), random.nextInt(60), random.nextInt(60));
+
+            WorkerRef worker = workers.get(random.nextInt(workers.size()));
+            TransactionType type = random.nextInt(100) < request.getIncomePercent()
+                    ? TransactionType.INCOME : TransactionType.SPENDING;
+            String[] data = type == TransactionType.INCOME
+                    ? INCOME_DATA[random.nextInt(INCOME_DATA.length)]
+                    : SPENDING_DATA[random.nextInt(SPENDING_DATA.length)];
+            BigDecimal amount = BigDecimal.valueOf(25_000 + random.nextInt(950_000), 2);
+
+            int roll = random.nextInt(100);
+            TransactionStatus transactionStatus = roll < request.getPendingPercent() ? TransactionStatus.PENDING
+                    : roll < request.getPendingPercent() + request.getRejectedPercent() ? TransactionStatus.REJECTED
+                    : TransactionStatus.ACCEPTED;
+            LocalDateTime reviewedAt = transactionStatus == TransactionStatus.PENDING
+                    ? null : createdAt.plusMinutes(5 + random.nextInt(240));
+
+            // Values come from the fixed tables above and contain no commas or quotes
+            csv.append(ids[i]).append(',')
+                    .append(worker.id()).append(',')
+                    .append(worker.managerId() != null ? worker.managerId().toString() : "").append(',')
+                    .append(type.name()).append(',')
+                    .append(transactionStatus.name()).append(',')
+                    .append(amount.toPlainString()).append(',')
+                    .append("UZS,")
+                    .append(data[0]).append(',')
+                    .append(data[1]).append(',')
+                    .append(data[2]).append(',')
+                    .append(5 + random.nextInt(250)).append(',')
+                    .append(createdAt).append(',')
+                    .append(reviewedAt != null ? reviewedAt.toString() : "").append('\n');
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            copyManager.copyIn(COPY_SQL, new StringReader(csv.toString()));
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        }
+
+        status.addInserted(rows);
+        log.info("Load generation progress: {}/{}", status.getInserted(), status.getTotal());
+    }
+
+    // Ids come from the same sequence Hibernate uses, one round trip per chunk
+    private long[] allocateIds(int rows) {
+        int blocks = (rows + ID_BLOCK - 1) / ID_BLOCK;
+        List<Long> blockEnds = jdbcTemplate.queryForList(
+                "SELECT nextval('transactions_seq') FROM generate_series(1, ?)", Long.class, blocks);
+
+        long[] ids = new long[rows];
+        int next = 0;
+        for (long blockEnd : blockEnds) {
+            for (long id = blockEnd - ID_BLOCK + 1; id <= blockEnd && next < rows; id++) {
+                ids[next++] = id;
+            }
+        }
+        return ids;
+    }
+
+    private static final class WorkerRef {
+        private final long id;
+        private final Long managerId;
+
+        WorkerRef(long id, Long managerId) {
+            this.id = id;
+            this.managerId = managerId;
+        }
+
+        long id() {
+            return id;
+        }
+
+        Long managerId() {
+            return managerId;
+        }
+    }
+}
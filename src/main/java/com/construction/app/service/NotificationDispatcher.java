@@ -0,0 +1,180 @@
+package com.construction.app.service;
+
+import com.construction.app.dto.NotificationResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// Takes notification inserts off the request path: events are queued after commit and written in JDBC batches
+@Service
+public class NotificationDispatcher {
+    private static final Logger log = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    private static final String INSERT_SQL = "INSERT INTO notifications "
+            + "(worker_id, type, transaction_id, message, is_read, created_at) VALUES (?, ?, ?, ?, false, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.notifications.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.notifications.batch-size:500}")
+    private int batchSize;
+
+    // How long the writer waits for more events before flushing a partial batch
+    @Value("${app.notifications.linger-ms:20}")
+    private long lingerMs;
+
+    private BlockingQueue<NotificationEvent> queue;
+    private TransactionTemplate writeTemplate;
+    private Thread writer;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        // Writes may be triggered from an afterCommit callback, so they always get their own transaction
+        writeTemplate = new TransactionTemplate(transactionManager);
+        writeTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Gauge.builder("notifications.queue.depth", queue, BlockingQueue::size)
+                .description("Notifications waiting to be written")
+                .register(meterRegistry);
+
+        running = true;
+        writer = Thread.ofVirtual().name("notification-writer").start(this::drainLoop);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    // Runs after the publishing transaction commits, or immediately when there is none
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotification(NotificationEvent event) {
+        // Backpressure: when the writer cannot keep up the caller pays for its own insert instead of dropping it
+        if (!queue.offer(event)) {
+            log.warn("Notification queue full ({}), writing on the caller thread", queueCapacity);
+            write(List.of(event));
+        }
+    }
+
+    private void drainLoop() {
+        List<NotificationEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                NotificationEvent first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMs);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    NotificationEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // Shutting down: flush what was collected, the loop condition drains the rest
+            }
+
+            if (!batch.isEmpty()) {
+                try {
+                    write(batch);
+                } catch (RuntimeException e) {
+                    log.error("Failed to write {} notifications", batch.size(), e);
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<NotificationEvent> events) {
+        List<Long> ids;
+        try {
+            ids = writeTemplate.execute(status -> insertBatch(events));
+        } catch (DataAccessException e) {
+            // One bad row (e.g. a deleted user) must not lose the rest of the batch
+            if (events.size() == 1) {
+                log.warn("Dropping notification for user {}: {}", events.get(0).getWorkerId(), e.getMessage());
+                return;
+            }
+            for (NotificationEvent event : events) {
+                write(List.of(event));
+            }
+            return;
+        }
+
+        for (int i = 0; i < events.size() && i < ids.size(); i++) {
+            NotificationEvent event = events.get(i);
+            notificationService.notifyStored(event.getWorkerId(), new NotificationResponse(ids.get(i),
+                    event.getType(), event.getTransactionId(), event.getMessage(), false,
+                    event.getCreatedAt().toString()));
+        }
+    }
+
+    private List<Long> insertBatch(List<NotificationEvent> events) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            List<Long> ids = new ArrayList<>(events.size());
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL, new String[] { "id" })) {
+                for (NotificationEvent event : events) {
+                    statement.setLong(1, event.getWorkerId());
+                    statement.setString(2, event.getType());
+                    statement.setLong(3, event.getTransactionId());
+                    statement.setString(4, event.getMessage());
+                    statement.setTimestamp(5, Timestamp.valueOf(event.getCreatedAt()));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+            }
+            return ids;
+        });
+    }
+}
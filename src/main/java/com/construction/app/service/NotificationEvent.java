@@ -0,0 +1,40 @@
+package com.construction.app.service;
+
+import java.time.LocalDateTime;
+
+// Published when a user should be notified; stored asynchronously by NotificationDispatcher after commit
+public class NotificationEvent {
+    private final Long workerId;
+    private final String type;
+    private final Long transactionId;
+    private final String message;
+    private final LocalDateTime createdAt;
+
+    public NotificationEvent(Long workerId, String type, Long transactionId, String message, LocalDateTime createdAt) {
+        this.workerId = workerId;
+        this.type = type;
+        this.transactionId = transactionId;
+        this.message = message;
+        this.createdAt = createdAt;
+    }
+
+    public Long getWorkerId() {
+        return workerId;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Long getTransactionId() {
+        return transactionId;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
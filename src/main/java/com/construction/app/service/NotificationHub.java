@@ -0,0 +1,82 @@
+package com.construction.app.service;
+
+import com.construction.app.dto.NotificationResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// In-process fan-out of notification events to the open SSE connections of each user
+@Component
+public class NotificationHub {
+    @Value("${app.notifications.sse-timeout-ms:1800000}")
+    private long sseTimeoutMs;
+
+    private final Map<Long, List<SseEmitter>> emittersByUser = new ConcurrentHashMap<>();
+
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        emittersByUser.compute(userId, (id, emitters) -> {
+            List<SseEmitter> list = emitters != null ? emitters : new CopyOnWriteArrayList<>();
+            list.add(emitter);
+            return list;
+        });
+
+        Runnable remove = () -> removeEmitter(userId, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+        return emitter;
+    }
+
+    // Notification events carry the notification id, which the browser echoes back as Last-Event-ID
+    public void publishNotification(Long userId, NotificationResponse notification, long unreadCount) {
+        send(userId, SseEmitter.event().id(String.valueOf(notification.getId()))
+                .name("notification").data(notification));
+        send(userId, SseEmitter.event().name("unread-count").data(unreadCount));
+    }
+
+    public void publishUnreadCount(Long userId, long unreadCount) {
+        send(userId, SseEmitter.event().name("unread-count").data(unreadCount));
+    }
+
+    public void send(Long userId, SseEmitter.SseEventBuilder event) {
+        List<SseEmitter> emitters = emittersByUser.get(userId);
+        if (emitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; the container calls onError/onCompletion, drop it now anyway
+                removeEmitter(userId, emitter);
+            }
+        }
+    }
+
+    public boolean hasSubscribers(Long userId) {
+        return emittersByUser.containsKey(userId);
+    }
+
+    // Comment frames keep idle connections open through proxies without touching the database
+    @Scheduled(fixedRateString = "${app.notifications.heartbeat-ms:25000}")
+    public void heartbeat() {
+        for (Long userId : emittersByUser.keySet()) {
+            send(userId, SseEmitter.event().comment("ping"));
+        }
+    }
+
+    private void removeEmitter(Long userId, SseEmitter emitter) {
+        emittersByUser.computeIfPresent(userId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
@@ -2,51 +2,185 @@ package com.construction.app.service;
 
 import com.construction.app.dto.NotificationResponse;
 import com.construction.app.entity.Notification;
-import com.construction.app.entity.User;
 import com.construction.app.repository.NotificationRepository;
-import com.construction.app.repository.UserRepository;
+import com.construction.app.repository.projection.UnreadCount;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 @Service
 public class NotificationService {
+    private static final Logger log = LoggerFactory.getLogger(NotificationService.class);
+    private static final int MAX_PAGE_SIZE = 200;
+
     @Autowired
     private NotificationRepository notificationRepository;
 
     @Autowired
-    private UserRepository userRepository;
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private NotificationHub notificationHub;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.notifications.retention-days:90}")
+    private int retentionDays;
+
+    @Value("${app.notifications.purge-batch-size:5000}")
+    private int purgeBatchSize;
 
+    // Unread notifications per user, seeded lazily from the table and adjusted as notifications change
+    private final Map<Long, LongAdder> unreadCounts = new ConcurrentHashMap<>();
+
+    // Stored by NotificationDispatcher once the caller's transaction commits
     public void createNotification(Long workerId, String type, Long transactionId, String message) {
-        User worker = userRepository.findById(workerId).orElse(null);
-        if (worker != null) {
-            Notification notification = new Notification(worker, type, transactionId, message);
-            notificationRepository.save(notification);
+        eventPublisher.publishEvent(new NotificationEvent(workerId, type, transactionId, message, LocalDateTime.now()));
+    }
+
+    // Called by the dispatcher after the row is committed
+    void notifyStored(Long workerId, NotificationResponse response) {
+        adjustUnreadCount(workerId, 1);
+        if (notificationHub.hasSubscribers(workerId)) {
+            notificationHub.publishNotification(workerId, response, getUnreadCount(workerId));
+        }
+    }
+
+    // Opens the user's event stream; after a reconnect, replays what was created since Last-Event-ID.
+    // A client that missed more than a page only gets the unread count and reloads the list itself
+    public SseEmitter subscribe(Long workerId, String lastEventId) {
+        SseEmitter emitter = notificationHub.subscribe(workerId);
+        try {
+            if (lastEventId != null && !lastEventId.isEmpty()) {
+                List<Notification> missed = notificationRepository.findByWorkerIdAndIdGreaterThanOrderByIdAsc(
+                        workerId, Long.parseLong(lastEventId), PageRequest.of(0, MAX_PAGE_SIZE + 1));
+                if (missed.size() > MAX_PAGE_SIZE) {
+                    missed = List.of();
+                }
+                for (Notification notification : missed) {
+                    emitter.send(SseEmitter.event().id(String.valueOf(notification.getId()))
+                            .name("notification").data(convertToResponse(notification)));
+                }
+            }
+            emitter.send(SseEmitter.event().name("unread-count").data(getUnreadCount(workerId)));
+        } catch (IOException | NumberFormatException e) {
+            emitter.completeWithError(e);
         }
+        return emitter;
     }
 
-    public List<NotificationResponse> getNotifications(Long workerId) {
-        List<Notification> notifications = notificationRepository.findByWorkerIdOrderByCreatedAtDesc(workerId);
+    // Newest first, at most size rows; pass the last id seen as before to get the next page
+    public List<NotificationResponse> getNotifications(Long workerId, Long before, int size) {
+        Pageable limit = PageRequest.of(0, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+        List<Notification> notifications = before == null
+                ? notificationRepository.findByWorkerIdOrderByIdDesc(workerId, limit)
+                : notificationRepository.findByWorkerIdAndIdLessThanOrderByIdDesc(workerId, before, limit);
         return notifications.stream().map(this::convertToResponse).collect(Collectors.toList());
     }
 
     public Long getUnreadCount(Long workerId) {
-        return notificationRepository.countByWorkerIdAndIsReadFalse(workerId);
+        LongAdder counter = unreadCounts.get(workerId);
+        if (counter == null) {
+            LongAdder seeded = new LongAdder();
+            seeded.add(notificationRepository.countByWorkerIdAndIsReadFalse(workerId));
+            counter = unreadCounts.putIfAbsent(workerId, seeded);
+            if (counter == null) {
+                counter = seeded;
+            }
+        }
+        return Math.max(0, counter.sum());
     }
 
+    @Transactional
     public void markAsRead(Long notificationId) {
         notificationRepository.findById(notificationId).ifPresent(notification -> {
-            notification.setIsRead(true);
-            notificationRepository.save(notification);
+            // Only the request that actually flipped the flag moves the counter
+            if (notificationRepository.markReadById(notificationId) == 0) {
+                return;
+            }
+            // Keeps the badge in other tabs of the same user in step
+            Long workerId = notification.getWorker().getId();
+            AfterCommit.run(() -> {
+                adjustUnreadCount(workerId, -1);
+                if (notificationHub.hasSubscribers(workerId)) {
+                    notificationHub.publishUnreadCount(workerId, getUnreadCount(workerId));
+                }
+            });
         });
     }
 
+    @Transactional
     public void markAllAsRead(Long workerId) {
-        List<Notification> notifications = notificationRepository.findByWorkerIdOrderByCreatedAtDesc(workerId);
-        notifications.forEach(n -> n.setIsRead(true));
-        notificationRepository.saveAll(notifications);
+        notificationRepository.markAllReadByWorkerId(workerId);
+        AfterCommit.run(() -> {
+            unreadCounts.put(workerId, new LongAdder());
+            notificationHub.publishUnreadCount(workerId, 0);
+        });
+    }
+
+    // Read notifications past the retention window are deleted in chunks, each in its own transaction
+    @Scheduled(cron = "${app.notifications.retention-cron:0 30 3 * * *}")
+    public void purgeReadNotifications() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        long purged = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status ->
+                    notificationRepository.deleteReadBefore(cutoff, purgeBatchSize));
+            purged += deleted;
+        } while (deleted == purgeBatchSize);
+        if (purged > 0) {
+            log.info("Purged {} read notifications older than {}", purged, cutoff);
+        }
+    }
+
+    // Corrects drift from races between a lazy seed and concurrent writes, one grouped query per run
+    @Scheduled(fixedDelayString = "${app.notifications.unread-reconcile-ms:300000}")
+    public void reconcileUnreadCounts() {
+        if (unreadCounts.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> actual = new HashMap<>();
+        for (UnreadCount row : notificationRepository.countUnreadByWorker()) {
+            actual.put(row.getWorkerId(), row.getUnreadCount());
+        }
+        for (Map.Entry<Long, LongAdder> entry : unreadCounts.entrySet()) {
+            long expected = actual.getOrDefault(entry.getKey(), 0L);
+            long cached = entry.getValue().sum();
+            if (cached != expected) {
+                entry.getValue().add(expected - cached);
+                if (notificationHub.hasSubscribers(entry.getKey())) {
+                    notificationHub.publishUnreadCount(entry.getKey(), expected);
+                }
+            }
+        }
+    }
+
+    // Users that were never seeded are left alone; their first read loads the true count
+    private void adjustUnreadCount(Long workerId, long delta) {
+        LongAdder counter = unreadCounts.get(workerId);
+        if (counter != null) {
+            counter.add(delta);
+        }
     }
 
     private NotificationResponse convertToResponse(Notification notification) {
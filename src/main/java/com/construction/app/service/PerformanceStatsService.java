@@ -0,0 +1,137 @@
+package com.construction.app.service;
+
+import com.construction.app.dto.PerformanceStatsResponse;
+import com.construction.app.enums.TransactionStatus;
+import com.construction.app.enums.TransactionType;
+import com.construction.app.repository.TransactionRepository;
+import com.construction.app.repository.projection.PerformanceRow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+public class PerformanceStatsService {
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    // Every invalidation installs a new empty holder, so a computation that raced with a write fails its
+    // compare-and-set against the holder it started from and is not cached
+    private final AtomicReference<Cached> cache = new AtomicReference<>(new Cached(null));
+
+    public Map<String, List<PerformanceStatsResponse>> getPerformance() {
+        Cached current = cache.get();
+        if (current.value != null) {
+            return current.value;
+        }
+
+        Map<String, List<PerformanceStatsResponse>> performance = new LinkedHashMap<>();
+        performance.put("workers", fold(transactionRepository.aggregatePerformanceByWorker()));
+        performance.put("managers", fold(transactionRepository.aggregatePerformanceByManager()));
+
+        cache.compareAndSet(current, new Cached(performance));
+        return performance;
+    }
+
+    public void invalidate() {
+        cache.set(new Cached(null));
+
+        // Invalidate again once the writing transaction is visible to other readers
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.set(new Cached(null));
+                }
+            });
+        }
+    }
+
+    private List<PerformanceStatsResponse> fold(List<PerformanceRow> rows) {
+        Map<Long, UserTotals> totalsByUser = new LinkedHashMap<>();
+        for (PerformanceRow row : rows) {
+            totalsByUser.computeIfAbsent(row.getUserId(), id -> new UserTotals(row)).add(row);
+        }
+
+        List<PerformanceStatsResponse> responses = new ArrayList<>();
+        for (UserTotals totals : totalsByUser.values()) {
+            responses.add(totals.toResponse());
+        }
+        responses.sort((a, b) -> new BigDecimal(b.getAcceptedIncome()).compareTo(new BigDecimal(a.getAcceptedIncome())));
+        return responses;
+    }
+
+    private static class UserTotals {
+        private final Long userId;
+        private final String username;
+        private final String fullName;
+        private final Map<TransactionStatus, Long> countByStatus = new LinkedHashMap<>();
+        private BigDecimal acceptedIncome = BigDecimal.ZERO;
+        private BigDecimal acceptedSpending = BigDecimal.ZERO;
+        private double reviewSeconds;
+        private long reviewedCount;
+
+        UserTotals(PerformanceRow row) {
+            this.userId = row.getUserId();
+            this.username = row.getUsername();
+            this.fullName = row.getFullName();
+        }
+
+        void add(PerformanceRow row) {
+            countByStatus.merge(row.getStatus(), row.getTransactionCount(), Long::sum);
+            if (row.getStatus() == TransactionStatus.ACCEPTED) {
+                if (row.getType() == TransactionType.INCOME) {
+                    acceptedIncome = acceptedIncome.add(row.getTotal());
+                } else if (row.getType() == TransactionType.SPENDING) {
+                    acceptedSpending = acceptedSpending.add(row.getTotal());
+                }
+            }
+            if (row.getReviewSeconds() != null) {
+                reviewSeconds += row.getReviewSeconds();
+            }
+            reviewedCount += row.getReviewedCount();
+        }
+
+        PerformanceStatsResponse toResponse() {
+            long accepted = countByStatus.getOrDefault(TransactionStatus.ACCEPTED, 0L);
+            long pending = countByStatus.getOrDefault(TransactionStatus.PENDING, 0L);
+            long rejected = countByStatus.getOrDefault(TransactionStatus.REJECTED, 0L);
+            long commented = countByStatus.getOrDefault(TransactionStatus.COMMENTED, 0L);
+            long total = accepted + pending + rejected + commented;
+            long decided = total - pending;
+
+            PerformanceStatsResponse response = new PerformanceStatsResponse();
+            response.setUserId(userId);
+            response.setUsername(username);
+            response.setFullName(fullName);
+            response.setTotalTransactions(total);
+            response.setAcceptedTransactions(accepted);
+            response.setPendingTransactions(pending);
+            response.setRejectedTransactions(rejected);
+            response.setCommentedTransactions(commented);
+            response.setAcceptedIncome(acceptedIncome.toString());
+            response.setAcceptedSpending(acceptedSpending.toString());
+            response.setApprovalRate(decided > 0
+                    ? BigDecimal.valueOf(accepted * 100.0 / decided).setScale(1, RoundingMode.HALF_UP).doubleValue()
+                    : 0.0);
+            response.setAverageReviewSeconds(reviewedCount > 0 ? reviewSeconds / reviewedCount : null);
+            return response;
+        }
+    }
+
+    private static final class Cached {
+        private final Map<String, List<PerformanceStatsResponse>> value;
+
+        Cached(Map<String, List<PerformanceStatsResponse>> value) {
+            this.value = value;
+        }
+    }
+}
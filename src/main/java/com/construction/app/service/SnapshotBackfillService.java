@@ -0,0 +1,181 @@
+package com.construction.app.service;
+
+import com.construction.app.repository.StatisticSnapshotRepository;
+import com.construction.app.repository.TransactionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+public class SnapshotBackfillService {
+    private static final Logger log = LoggerFactory.getLogger(SnapshotBackfillService.class);
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private StatisticSnapshotRepository statisticSnapshotRepository;
+
+    @Autowired
+    private StatisticService statisticService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private StatisticsCache statisticsCache;
+
+    @Value("${app.snapshots.batch-days:31}")
+    private int batchDays;
+
+    @Value("${app.snapshots.backfill-threads:4}")
+    private int backfillThreads;
+
+    // Upper bound on days per manual rebuild; callers map the IllegalArgumentException to a 400
+    @Value("${app.snapshots.max-rebuild-days:3660}")
+    private int maxRebuildDays;
+
+    // Held by whichever backfill is writing; a second one either fails fast or waits for it
+    private final ReentrantLock running = new ReentrantLock();
+
+    // Writes every missing day since the first transaction, so a node that was down at midnight catches up
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 0 * * *") // Every day at midnight
+    public void catchUp() {
+        LocalDateTime earliest = transactionRepository.findEarliestCreatedAt();
+        if (earliest == null) {
+            return;
+        }
+
+        LocalDate firstDate = earliest.toLocalDate();
+        LocalDate lastDate = LocalDate.now().minusDays(1);
+        if (firstDate.isAfter(lastDate)) {
+            return;
+        }
+
+        Set<LocalDate> existing = new HashSet<>(
+                statisticSnapshotRepository.findSnapshotDatesBetween(firstDate, lastDate));
+        List<LocalDate> missing = new ArrayList<>();
+        for (LocalDate date = firstDate; !date.isAfter(lastDate); date = date.plusDays(1)) {
+            if (!existing.contains(date)) {
+                missing.add(date);
+            }
+        }
+
+        if (missing.isEmpty()) {
+            return;
+        }
+        if (!running.tryLock()) {
+            log.info("Snapshot backfill already running, skipping catch-up");
+            return;
+        }
+        try {
+            log.info("Backfilling {} missing statistic snapshots", missing.size());
+            writeSnapshots(missing);
+        } finally {
+            running.unlock();
+        }
+    }
+
+    // Recomputes existing snapshots, e.g. after late reviews changed historical days; fails instead of
+    // waiting while another backfill runs
+    public int rebuildRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxRebuildDays) {
+            throw new IllegalArgumentException("At most " + maxRebuildDays + " days can be rebuilt at once");
+        }
+
+        List<LocalDate> dates = datesUntilYesterday(from, to);
+        if (!running.tryLock()) {
+            throw new IllegalStateException("Snapshot backfill already running");
+        }
+        try {
+            writeSnapshots(dates);
+        } finally {
+            running.unlock();
+        }
+        return dates.size();
+    }
+
+    // Same rebuild for the load generator, which waits for a running backfill so its new rows still make
+    // it into the snapshots
+    public int rebuildRangeWhenIdle(LocalDate from, LocalDate to) {
+        List<LocalDate> dates = datesUntilYesterday(from, to);
+        running.lock();
+        try {
+            writeSnapshots(dates);
+        } finally {
+            running.unlock();
+        }
+        return dates.size();
+    }
+
+    private List<LocalDate> datesUntilYesterday(LocalDate from, LocalDate to) {
+        LocalDate lastDate = to.isBefore(LocalDate.now()) ? to : LocalDate.now().minusDays(1);
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(lastDate); date = date.plusDays(1)) {
+            dates.add(date);
+        }
+        return dates;
+    }
+
+    private void writeSnapshots(List<LocalDate> dates) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, backfillThreads));
+        try {
+            List<Future<?>> batches = new ArrayList<>();
+            for (int i = 0; i < dates.size(); i += batchDays) {
+                List<LocalDate> batch = dates.subList(i, Math.min(i + batchDays, dates.size()));
+                batches.add(executor.submit(() -> writeBatch(batch)));
+            }
+
+            for (Future<?> batch : batches) {
+                batch.get();
+            }
+            statisticsCache.invalidate();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Snapshot backfill interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Snapshot backfill failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // One grouped query covers the whole batch; days without transactions get zero snapshots
+    private void writeBatch(List<LocalDate> dates) {
+        LocalDate batchStart = dates.get(0);
+        LocalDate batchEnd = dates.get(dates.size() - 1);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<LocalDate, AmountTotals> totalsByDate = statisticService.aggregateByDay(batchStart, batchEnd);
+            for (LocalDate date : dates) {
+                AmountTotals dayTotals = totalsByDate.getOrDefault(date, new AmountTotals());
+                statisticSnapshotRepository.upsert(date, dayTotals.getIncome(), dayTotals.getSpending(),
+                        dayTotals.getNetProfit(), (int) dayTotals.getCount());
+            }
+        });
+    }
+}
@@ -0,0 +1,149 @@
+package com.construction.app.service;
+
+import com.construction.app.dto.StatisticResponse;
+import com.construction.app.entity.StatisticRollup;
+import com.construction.app.enums.RollupGranularity;
+import com.construction.app.enums.TransactionType;
+import com.construction.app.repository.StatisticRollupRepository;
+import com.construction.app.repository.TransactionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+public class StatisticRollupService {
+    // Upper bound on buckets per response so an hourly request over years stays bounded
+    private static final int MAX_BUCKETS = 5000;
+
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    @Autowired
+    private StatisticRollupRepository statisticRollupRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    // Must run inside the caller's transaction so the buckets commit or roll back with the review
+    @Transactional
+    public void applyDelta(LocalDateTime createdAt, TransactionType type, BigDecimal amount, int sign) {
+        BigDecimal signedAmount = sign < 0 ? amount.negate() : amount;
+        BigDecimal incomeDelta = type == TransactionType.INCOME ? signedAmount : BigDecimal.ZERO;
+        BigDecimal spendingDelta = type == TransactionType.SPENDING ? signedAmount : BigDecimal.ZERO;
+        LocalDateTime now = LocalDateTime.now();
+
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            statisticRollupRepository.addDelta(granularity.name(), granularity.truncate(createdAt),
+                    incomeDelta, spendingDelta, sign, now);
+        }
+    }
+
+    // Net changes keyed by hour; merged per bucket first so each bucket gets one upsert, taken in
+    // bucket order so concurrent batches lock rows in the same sequence
+    @Transactional
+    void applyDeltas(Map<LocalDateTime, AmountTotals> deltasByHour) {
+        LocalDateTime now = LocalDateTime.now();
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            Map<LocalDateTime, AmountTotals> deltasByBucket = new TreeMap<>();
+            for (Map.Entry<LocalDateTime, AmountTotals> entry : deltasByHour.entrySet()) {
+                AmountTotals bucket = deltasByBucket.computeIfAbsent(granularity.truncate(entry.getKey()),
+                        start -> new AmountTotals());
+                bucket.add(TransactionType.INCOME, entry.getValue().getIncome(), entry.getValue().getCount());
+                bucket.add(TransactionType.SPENDING, entry.getValue().getSpending(), 0);
+            }
+            for (Map.Entry<LocalDateTime, AmountTotals> entry : deltasByBucket.entrySet()) {
+                statisticRollupRepository.addDelta(granularity.name(), entry.getKey(), entry.getValue().getIncome(),
+                        entry.getValue().getSpending(), entry.getValue().getCount(), now);
+            }
+        }
+    }
+
+    public List<StatisticResponse> getRollups(RollupGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = granularity.truncate(from);
+        LocalDateTime end = granularity.next(granularity.truncate(to));
+
+        // Checked before touching the table; callers map this to a 400
+        int bucketCount = 0;
+        for (LocalDateTime bucket = start; bucket.isBefore(end); bucket = granularity.next(bucket)) {
+            if (++bucketCount > MAX_BUCKETS) {
+                throw new IllegalArgumentException("Range too large for " + granularity + " granularity");
+            }
+        }
+
+        Map<LocalDateTime, StatisticRollup> rollupsByBucket = new HashMap<>();
+        for (StatisticRollup rollup : statisticRollupRepository.findRange(granularity, start, end)) {
+            rollupsByBucket.put(rollup.getBucketStart(), rollup);
+        }
+
+        List<StatisticResponse> responses = new ArrayList<>();
+        for (LocalDateTime bucket = start; bucket.isBefore(end); bucket = granularity.next(bucket)) {
+            // Buckets without accepted transactions have no row and are reported as zero
+            StatisticRollup rollup = rollupsByBucket.get(bucket);
+            BigDecimal income = rollup != null ? rollup.getTotalIncome() : BigDecimal.ZERO;
+            BigDecimal spending = rollup != null ? rollup.getTotalSpending() : BigDecimal.ZERO;
+
+            StatisticResponse response = new StatisticResponse();
+            response.setTotalIncome(income.toString());
+            response.setTotalSpending(spending.toString());
+            response.setNetProfit(income.subtract(spending).toString());
+            response.setTransactionCount(rollup != null ? rollup.getTransactionCount() : 0L);
+            response.setAsOfDate(formatBucket(granularity, bucket));
+            responses.add(response);
+        }
+
+        return responses;
+    }
+
+    // Same lock as the ledger reconcile, so no review adds to a bucket between its delete and re-insert
+    @Transactional
+    public void rebuild(LocalDateTime from, LocalDateTime to) {
+        ledgerService.lockTotals();
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            LocalDateTime start = granularity.truncate(from);
+            LocalDateTime end = granularity.next(granularity.truncate(to));
+            statisticRollupRepository.deleteRange(granularity.name(), start, end);
+            statisticRollupRepository.insertFromTransactions(granularity.name(), granularity.getTruncUnit(),
+                    start, end);
+        }
+    }
+
+    @Transactional
+    public void rebuildAll() {
+        LocalDateTime earliest = transactionRepository.findEarliestCreatedAt();
+        if (earliest != null) {
+            rebuild(earliest, LocalDateTime.now());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initializeIfEmpty() {
+        if (statisticRollupRepository.count() == 0) {
+            rebuildAll();
+        }
+    }
+
+    private String formatBucket(RollupGranularity granularity, LocalDateTime bucket) {
+        switch (granularity) {
+            case HOURLY:
+                return bucket.toString();
+            case DAILY:
+                return bucket.toLocalDate().toString();
+            default:
+                return bucket.format(MONTH_FORMATTER);
+        }
+    }
+}
@@ -1,25 +1,26 @@
 package com.construction.app.service;
 
+import com.construction.app.dto.PerformanceStatsResponse;
 import com.construction.app.dto.StatisticResponse;
+import com.construction.app.entity.LedgerTotals;
 import com.construction.app.entity.StatisticSnapshot;
 import com.construction.app.entity.Transaction;
+import com.construction.app.enums.RollupGranularity;
 import com.construction.app.enums.TransactionStatus;
 import com.construction.app.enums.TransactionType;
 import com.construction.app.repository.StatisticSnapshotRepository;
 import com.construction.app.repository.TransactionRepository;
+import com.construction.app.repository.projection.BucketTotal;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 public class StatisticService {
@@ -29,179 +30,198 @@ public class StatisticService {
     @Autowired
     private StatisticSnapshotRepository statisticSnapshotRepository;
 
-    public StatisticResponse getCurrentStatistics() {
-        List<Transaction> acceptedTransactions = transactionRepository
-                .findByStatusOrderByCreatedAtDesc(TransactionStatus.ACCEPTED);
+    @Autowired
+    private LedgerService ledgerService;
 
-        BigDecimal totalIncome = BigDecimal.ZERO;
-        BigDecimal totalSpending = BigDecimal.ZERO;
+    @Autowired
+    private StatisticRollupService statisticRollupService;
 
-        for (Transaction transaction : acceptedTransactions) {
-            if (transaction.getType() == TransactionType.INCOME) {
-                totalIncome = totalIncome.add(transaction.getAmount());
-            } else if (transaction.getType() == TransactionType.SPENDING) {
-                totalSpending = totalSpending.add(transaction.getAmount());
-            }
-        }
+    @Autowired
+    private PerformanceStatsService performanceStatsService;
+
+    @Autowired
+    private HourlyGrowthBuffer hourlyGrowthBuffer;
+
+    @Autowired
+    private StatisticsCache statisticsCache;
+
+    @Autowired
+    private TransactionStatusCounters transactionStatusCounters;
+
+    public StatisticResponse getCurrentStatistics() {
+        LedgerTotals totals = ledgerService.getTotals();
 
+        BigDecimal totalIncome = totals.getTotalIncome();
+        BigDecimal totalSpending = totals.getTotalSpending();
         BigDecimal netProfit = totalIncome.subtract(totalSpending);
 
         StatisticResponse response = new StatisticResponse();
         response.setTotalIncome(totalIncome.toString());
         response.setTotalSpending(totalSpending.toString());
         response.setNetProfit(netProfit.toString());
-        response.setTransactionCount((long) acceptedTransactions.size());
+        response.setTransactionCount(totals.getTransactionCount());
         response.setAsOfDate(LocalDate.now().toString());
 
         return response;
     }
 
-    public List<StatisticResponse> getStatisticHistory(int days) {
-        LocalDate endDate = LocalDate.now();
-        LocalDate startDate = endDate.minusDays(days);
-
-        List<StatisticSnapshot> snapshots = statisticSnapshotRepository
-                .findBySnapshotDateBetweenOrderBySnapshotDateAsc(startDate, endDate);
-
-        // If no snapshots exist, generate from transactions
-        if (snapshots.isEmpty()) {
-            return generateHistoricalDataFromTransactions(startDate, endDate);
+    // Called from the review path, inside its transaction, whenever a status changes
+    public void recordStatusChange(Transaction transaction, TransactionStatus previousStatus) {
+        performanceStatsService.invalidate();
+        TransactionStatus newStatus = transaction.getStatus();
+        AfterCommit.run(() -> transactionStatusCounters.move(previousStatus, newStatus));
+
+        boolean wasAccepted = previousStatus == TransactionStatus.ACCEPTED;
+        boolean isAccepted = transaction.getStatus() == TransactionStatus.ACCEPTED;
+        if (wasAccepted == isAccepted) {
+            AfterCommit.run(statisticsCache::invalidate);
+            return;
         }
 
-        return snapshots.stream().map(this::convertSnapshotToResponse).collect(Collectors.toList());
+        int sign = isAccepted ? 1 : -1;
+        ledgerService.applyDelta(transaction.getType(), transaction.getAmount(), sign);
+        statisticRollupService.applyDelta(transaction.getCreatedAt(), transaction.getType(),
+                transaction.getAmount(), sign);
+
+        // The in-memory hourly view only sees committed changes
+        LocalDateTime createdAt = transaction.getCreatedAt();
+        TransactionType type = transaction.getType();
+        BigDecimal signedAmount = sign < 0 ? transaction.getAmount().negate() : transaction.getAmount();
+        AfterCommit.run(() -> hourlyGrowthBuffer.add(createdAt, type, signedAmount));
+        // Registered last so the version moves only once the in-memory views are updated
+        AfterCommit.run(statisticsCache::invalidate);
     }
 
-    private List<StatisticResponse> generateHistoricalDataFromTransactions(LocalDate startDate, LocalDate endDate) {
-        List<StatisticResponse> historicalData = new ArrayList<>();
-
-        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-            LocalDateTime startOfDay = date.atStartOfDay();
-            LocalDateTime endOfDay = date.atTime(23, 59, 59);
-
-            List<Transaction> dayTransactions = transactionRepository
-                    .findByCreatedAtBetweenAndStatusOrderByCreatedAtAsc(startOfDay, endOfDay,
-                            TransactionStatus.ACCEPTED);
+    // Batch review: the net effect of all status changes is applied with one ledger update and one
+    // upsert per touched rollup bucket instead of one set per transaction
+    public void recordStatusChanges(List<Transaction> transactions, List<TransactionStatus> previousStatuses) {
+        performanceStatsService.invalidate();
+        List<TransactionStatus> newStatuses = transactions.stream().map(Transaction::getStatus).toList();
+        AfterCommit.run(() -> {
+            for (int i = 0; i < newStatuses.size(); i++) {
+                transactionStatusCounters.move(previousStatuses.get(i), newStatuses.get(i));
+            }
+        });
+
+        AmountTotals ledgerDelta = new AmountTotals();
+        Map<LocalDateTime, AmountTotals> deltasByHour = new HashMap<>();
+        for (int i = 0; i < transactions.size(); i++) {
+            Transaction transaction = transactions.get(i);
+            boolean wasAccepted = previousStatuses.get(i) == TransactionStatus.ACCEPTED;
+            boolean isAccepted = transaction.getStatus() == TransactionStatus.ACCEPTED;
+            if (wasAccepted == isAccepted) {
+                continue;
+            }
 
-            BigDecimal totalIncome = BigDecimal.ZERO;
-            BigDecimal totalSpending = BigDecimal.ZERO;
+            int sign = isAccepted ? 1 : -1;
+            BigDecimal signedAmount = sign < 0 ? transaction.getAmount().negate() : transaction.getAmount();
+            ledgerDelta.add(transaction.getType(), signedAmount, sign);
+            deltasByHour.computeIfAbsent(RollupGranularity.HOURLY.truncate(transaction.getCreatedAt()),
+                    hour -> new AmountTotals()).add(transaction.getType(), signedAmount, sign);
+        }
 
-            for (Transaction transaction : dayTransactions) {
-                if (transaction.getType() == TransactionType.INCOME) {
-                    totalIncome = totalIncome.add(transaction.getAmount());
-                } else if (transaction.getType() == TransactionType.SPENDING) {
-                    totalSpending = totalSpending.add(transaction.getAmount());
-                }
+        if (deltasByHour.isEmpty()) {
+            AfterCommit.run(statisticsCache::invalidate);
+            return;
+        }
+        ledgerService.applyDeltas(ledgerDelta.getIncome(), ledgerDelta.getSpending(), ledgerDelta.getCount());
+        statisticRollupService.applyDeltas(deltasByHour);
+        AfterCommit.run(() -> deltasByHour.forEach((hour, delta) -> {
+            if (delta.getIncome().signum() != 0) {
+                hourlyGrowthBuffer.add(hour, TransactionType.INCOME, delta.getIncome());
             }
+            if (delta.getSpending().signum() != 0) {
+                hourlyGrowthBuffer.add(hour, TransactionType.SPENDING, delta.getSpending());
+            }
+        }));
+        AfterCommit.run(statisticsCache::invalidate);
+    }
 
-            BigDecimal netProfit = totalIncome.subtract(totalSpending);
-
-            StatisticResponse response = new StatisticResponse();
-            response.setTotalIncome(totalIncome.toString());
-            response.setTotalSpending(totalSpending.toString());
-            response.setNetProfit(netProfit.toString());
-            response.setTransactionCount((long) dayTransactions.size());
-            response.setAsOfDate(date.toString());
+    public void recordCreated(Transaction transaction) {
+        recordCreated(List.of(transaction));
+    }
 
-            historicalData.add(response);
-        }
+    public void recordCreated(List<Transaction> transactions) {
+        performanceStatsService.invalidate();
+        List<TransactionStatus> statuses = transactions.stream().map(Transaction::getStatus).toList();
+        AfterCommit.run(() -> {
+            statuses.forEach(status -> transactionStatusCounters.add(status, 1));
+            statisticsCache.invalidate();
+        });
+    }
 
-        return historicalData;
+    // Rebuilds derived statistics after rows were written outside the review path (demo seeders)
+    public void refreshDerivedStatistics() {
+        ledgerService.reconcile();
+        statisticRollupService.rebuildAll();
+        hourlyGrowthBuffer.rebuild();
+        transactionStatusCounters.reload();
+        performanceStatsService.invalidate();
+        statisticsCache.invalidate();
     }
 
-    public List<Map<String, Object>> getTodayHourlyGrowth() {
-        LocalDateTime startOfPeriod = LocalDateTime.now().minusHours(23); // 24 hours ago
-        LocalDateTime now = LocalDateTime.now();
+    public Map<String, List<PerformanceStatsResponse>> getPerformance() {
+        return performanceStatsService.getPerformance();
+    }
 
-        List<Transaction> periodTransactions = transactionRepository
-                .findByCreatedAtBetweenAndStatusOrderByCreatedAtAsc(startOfPeriod, now, TransactionStatus.ACCEPTED);
+    public List<StatisticResponse> getRollups(RollupGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        return statisticRollupService.getRollups(granularity, from, to);
+    }
 
-        Map<Integer, BigDecimal> hourlyIncome = new HashMap<>();
-        Map<Integer, BigDecimal> hourlySpending = new HashMap<>();
+    public List<StatisticResponse> getStatisticHistory(int days) {
+        LocalDate endDate = LocalDate.now();
+        LocalDate startDate = endDate.minusDays(Math.max(days, 0));
 
-        // Initialize all hours with zero
-        for (int i = 0; i < 24; i++) {
-            hourlyIncome.put(i, BigDecimal.ZERO);
-            hourlySpending.put(i, BigDecimal.ZERO);
+        Map<LocalDate, StatisticResponse> historyByDate = new HashMap<>();
+        for (StatisticSnapshot snapshot : statisticSnapshotRepository
+                .findBySnapshotDateBetweenOrderBySnapshotDateAsc(startDate, endDate)) {
+            historyByDate.put(snapshot.getSnapshotDate(), convertSnapshotToResponse(snapshot));
         }
 
-        // Aggregate by hour
-        for (Transaction transaction : periodTransactions) {
-            int hour = transaction.getCreatedAt().getHour();
-            BigDecimal amount = transaction.getAmount();
-
-            if (transaction.getType() == TransactionType.INCOME) {
-                hourlyIncome.put(hour, hourlyIncome.get(hour).add(amount));
-            } else if (transaction.getType() == TransactionType.SPENDING) {
-                hourlySpending.put(hour, hourlySpending.get(hour).add(amount));
+        // Days without a snapshot (always including today) come from one grouped pass
+        LocalDate firstMissing = null;
+        LocalDate lastMissing = null;
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            if (!historyByDate.containsKey(date)) {
+                if (firstMissing == null) {
+                    firstMissing = date;
+                }
+                lastMissing = date;
             }
         }
 
-        // Convert to list format for frontend
-        List<Map<String, Object>> hourlyData = new ArrayList<>();
-        DateTimeFormatter hourFormatter = DateTimeFormatter.ofPattern("HH:mm");
-
-        // Find the maximum hour that has transactions
-        int maxHourWithTransactions = -1;
-        for (int i = 0; i < 24; i++) {
-            if (!hourlyIncome.get(i).equals(BigDecimal.ZERO) || !hourlySpending.get(i).equals(BigDecimal.ZERO)) {
-                maxHourWithTransactions = i;
+        if (firstMissing != null) {
+            Map<LocalDate, AmountTotals> liveTotals = aggregateByDay(firstMissing, lastMissing);
+            for (LocalDate date = firstMissing; !date.isAfter(lastMissing); date = date.plusDays(1)) {
+                if (!historyByDate.containsKey(date)) {
+                    AmountTotals dayTotals = liveTotals.getOrDefault(date, new AmountTotals());
+                    historyByDate.put(date, dayTotals.toResponse(date.toString()));
+                }
             }
         }
 
-        // Show all hours up to the max hour with transactions (or current hour,
-        // whichever is higher)
-        int maxHour = Math.max(maxHourWithTransactions, now.getHour());
-        maxHour = Math.min(maxHour, 23); // Don't go beyond 23
-
-        for (int i = 0; i <= maxHour; i++) {
-            Map<String, Object> hourData = new HashMap<>();
-            hourData.put("hour", String.format("%02d:00", i));
-            hourData.put("income", hourlyIncome.get(i));
-            hourData.put("spending", hourlySpending.get(i));
-            hourData.put("netProfit", hourlyIncome.get(i).subtract(hourlySpending.get(i)));
-            hourlyData.add(hourData);
+        List<StatisticResponse> history = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            history.add(historyByDate.get(date));
         }
-
-        return hourlyData;
+        return history;
     }
 
-    @Scheduled(cron = "0 0 0 * * *") // Every day at midnight
-    public void createDailySnapshot() {
-        LocalDate yesterday = LocalDate.now().minusDays(1);
+    // Accepted totals per day over [startDate, endDate], days without transactions are absent
+    Map<LocalDate, AmountTotals> aggregateByDay(LocalDate startDate, LocalDate endDate) {
+        List<BucketTotal> dailyTotals = transactionRepository.sumByBucketAndType("day",
+                TransactionStatus.ACCEPTED.name(), startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
 
-        // Check if snapshot already exists for yesterday
-        if (statisticSnapshotRepository.findBySnapshotDate(yesterday).isPresent()) {
-            return; // Already created
+        Map<LocalDate, AmountTotals> totalsByDate = new HashMap<>();
+        for (BucketTotal bucket : dailyTotals) {
+            totalsByDate.computeIfAbsent(bucket.getBucket().toLocalDate(), date -> new AmountTotals())
+                    .add(bucket.getType(), bucket.getTotal(), bucket.getTransactionCount());
         }
+        return totalsByDate;
+    }
 
-        // Calculate only yesterday's transactions (per-day, not cumulative)
-        LocalDateTime startOfDay = yesterday.atStartOfDay();
-        LocalDateTime endOfDay = yesterday.atTime(23, 59, 59);
-
-        List<Transaction> dayTransactions = transactionRepository
-                .findByCreatedAtBetweenAndStatusOrderByCreatedAtAsc(startOfDay, endOfDay, TransactionStatus.ACCEPTED);
-
-        BigDecimal totalIncome = BigDecimal.ZERO;
-        BigDecimal totalSpending = BigDecimal.ZERO;
-
-        for (Transaction transaction : dayTransactions) {
-            if (transaction.getType() == TransactionType.INCOME) {
-                totalIncome = totalIncome.add(transaction.getAmount());
-            } else if (transaction.getType() == TransactionType.SPENDING) {
-                totalSpending = totalSpending.add(transaction.getAmount());
-            }
-        }
-
-        BigDecimal netProfit = totalIncome.subtract(totalSpending);
-
-        StatisticSnapshot snapshot = new StatisticSnapshot(
-                yesterday,
-                totalIncome,
-                totalSpending,
-                netProfit,
-                dayTransactions.size());
-
-        statisticSnapshotRepository.save(snapshot);
+    public List<Map<String, Object>> getTodayHourlyGrowth() {
+        return hourlyGrowthBuffer.getHourlyGrowth();
     }
 
     private StatisticResponse convertSnapshotToResponse(StatisticSnapshot snapshot) {
@@ -0,0 +1,56 @@
+package com.construction.app.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Statistics responses keyed by request, valid until the ledger version moves; the version is bumped
+// after every committed change to transactions and doubles as the ETag of each cached response
+@Component
+public class StatisticsCache {
+    private static final int MAX_ENTRIES = 256;
+
+    // Distinguishes versions across restarts, so a client never matches an ETag from an earlier run
+    private final String instanceTag = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong version = new AtomicLong();
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public String etag(String key) {
+        return instanceTag + "-" + version.get() + "-" + key;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Supplier<T> loader) {
+        long current = version.get();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.version == current) {
+            return (T) entry.value;
+        }
+
+        // Stored under the version read before loading, so a change committed meanwhile forces a reload
+        T value = loader.get();
+        if (entries.size() < MAX_ENTRIES || entries.containsKey(key)) {
+            entries.put(key, new Entry(current, value));
+        }
+        return value;
+    }
+
+    // Must run after the change is committed, otherwise a reader could cache old data under the new version
+    public void invalidate() {
+        version.incrementAndGet();
+        entries.clear();
+    }
+
+    private static final class Entry {
+        private final long version;
+        private final Object value;
+
+        Entry(long version, Object value) {
+            this.version = version;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.construction.app.service;
+
+import com.construction.app.dto.StatisticResponse;
+import com.construction.app.repository.TransactionFilter;
+import com.construction.app.repository.TransactionRepository;
+import com.construction.app.repository.projection.TransactionRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// Accounting exports as CSV or NDJSON, written row by row while the cursor advances
+@Service
+public class TransactionExportService {
+    public static final String CSV = "csv";
+    public static final String NDJSON = "ndjson";
+
+    private static final int EXPORT_FETCH_SIZE = 1000;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private static final String TRANSACTION_HEADER = "id,createdAt,reviewedAt,workerId,workerName,managerId,managerName,"
+            + "type,status,amount,currency,product,source,description,weightKg,managerComment";
+    private static final String STATISTIC_HEADER = "date,totalIncome,totalSpending,netProfit,transactionCount";
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private StatisticService statisticService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public static boolean isSupportedFormat(String format) {
+        return CSV.equals(format) || NDJSON.equals(format);
+    }
+
+    // Postgres only honours the fetch size inside a transaction; rows are projections, so nothing
+    // accumulates in the persistence context and memory stays flat for any export size
+    @Transactional(readOnly = true)
+    public void exportTransactions(TransactionFilter filter, String format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        if (CSV.equals(format)) {
+            writer.write(TRANSACTION_HEADER);
+            writer.write('\n');
+        }
+
+        try (Stream<TransactionRow> rows = transactionRepository.streamByFilter(filter, EXPORT_FETCH_SIZE)) {
+            Iterator<TransactionRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                TransactionRow row = iterator.next();
+                if (CSV.equals(format)) {
+                    writeCsvRow(writer, row);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(transactionService.convertToResponse(row)));
+                    writer.write('\n');
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    public void exportStatisticHistory(int days, String format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        if (CSV.equals(format)) {
+            writer.write(STATISTIC_HEADER);
+            writer.write('\n');
+        }
+
+        for (StatisticResponse day : statisticService.getStatisticHistory(days)) {
+            if (CSV.equals(format)) {
+                writeCsvLine(writer, day.getAsOfDate(), day.getTotalIncome(), day.getTotalSpending(),
+                        day.getNetProfit(), day.getTransactionCount());
+            } else {
+                writer.write(objectMapper.writeValueAsString(day));
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeCsvRow(Writer writer, TransactionRow row) throws IOException {
+        writeCsvLine(writer, row.getId(), row.getCreatedAt(), row.getReviewedAt(),
+                row.getWorkerId(), row.getWorkerName(), row.getManagerId(), row.getManagerName(),
+                row.getType(), row.getStatus(), row.getAmount() != null ? row.getAmount().toPlainString() : null,
+                row.getCurrency(), row.getProduct(), row.getSource(), row.getDescription(),
+                row.getWeightKg() != null ? row.getWeightKg().toPlainString() : null, row.getManagerComment());
+    }
+
+    private void writeCsvLine(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writeCsvValue(writer, values[i].toString());
+            }
+        }
+        writer.write('\n');
+    }
+
+    // RFC 4180 quoting: only values containing a separator, quote or line break are wrapped
+    private void writeCsvValue(Writer writer, String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,204 @@
+package com.construction.app.service;
+
+import com.construction.app.dto.BulkCreateResponse;
+import com.construction.app.dto.TransactionRequest;
+import com.construction.app.entity.Transaction;
+import com.construction.app.entity.User;
+import com.construction.app.enums.TransactionType;
+import com.construction.app.repository.TransactionRepository;
+import com.construction.app.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Bulk submission of field records: validated per record, stored in chunks of JDBC-batched inserts
+@Service
+public class TransactionImportService {
+    private static final Logger log = LoggerFactory.getLogger(TransactionImportService.class);
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private StatisticService statisticService;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public BulkCreateResponse importTransactions(Long workerId, List<TransactionRequest> requests) {
+        Batch batch = new Batch(loadWorker(workerId));
+        for (TransactionRequest request : requests) {
+            batch.add(request);
+        }
+        return batch.finish();
+    }
+
+    // One JSON object per line; the body is consumed as it arrives, so upload size does not matter
+    public BulkCreateResponse importNdjson(Long workerId, InputStream body) throws IOException {
+        Batch batch = new Batch(loadWorker(workerId));
+        ObjectReader reader = objectMapper.readerFor(TransactionRequest.class);
+        BufferedReader lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+
+        String line;
+        while ((line = lines.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            TransactionRequest request;
+            try {
+                request = reader.readValue(line);
+            } catch (JsonProcessingException e) {
+                batch.reject("invalid JSON");
+                continue;
+            }
+            batch.add(request);
+        }
+        return batch.finish();
+    }
+
+    private User loadWorker(Long workerId) {
+        return userRepository.findById(workerId).orElseThrow(() -> new RuntimeException("Worker not found"));
+    }
+
+    private String validate(TransactionRequest request) {
+        if (request == null) {
+            return "empty record";
+        }
+        if (!TransactionType.INCOME.name().equals(request.getType())
+                && !TransactionType.SPENDING.name().equals(request.getType())) {
+            return "type must be INCOME or SPENDING";
+        }
+        if (isBlank(request.getCurrency()) || isBlank(request.getProduct()) || isBlank(request.getSource())) {
+            return "currency, product and source are required";
+        }
+        try {
+            if (new BigDecimal(request.getAmount()).signum() <= 0) {
+                return "amount must be positive";
+            }
+            if (new BigDecimal(request.getWeightKg()).signum() < 0) {
+                return "weightKg must not be negative";
+            }
+        } catch (NumberFormatException | NullPointerException e) {
+            return "amount and weightKg must be numbers";
+        }
+        return null;
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private class Batch {
+        private final User worker;
+        private final List<Transaction> pending = new ArrayList<>(CHUNK_SIZE);
+        private final BulkCreateResponse response = new BulkCreateResponse();
+        // Record number of the first record in pending
+        private int chunkStart;
+
+        Batch(User worker) {
+            this.worker = worker;
+        }
+
+        void add(TransactionRequest request) {
+            String error = validate(request);
+            if (error != null) {
+                reject(error);
+                return;
+            }
+            response.setReceived(response.getReceived() + 1);
+            if (pending.isEmpty()) {
+                chunkStart = response.getReceived();
+            }
+            pending.add(transactionService.newTransaction(worker, request, LocalDateTime.now()));
+            if (pending.size() >= CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        void reject(String error) {
+            response.setReceived(response.getReceived() + 1);
+            response.setRejected(response.getRejected() + 1);
+            addError("record " + response.getReceived() + ": " + error);
+        }
+
+        private void addError(String error) {
+            if (response.getErrors().size() < MAX_REPORTED_ERRORS) {
+                response.getErrors().add(error);
+            }
+        }
+
+        BulkCreateResponse finish() {
+            flush();
+            return response;
+        }
+
+        // Each chunk commits on its own, so a failure late in a large upload keeps the earlier chunks; a failed
+        // chunk is reported as rejected rather than failing the request, so the client knows exactly what was stored
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    entityManager.unwrap(Session.class).setJdbcBatchSize(CHUNK_SIZE);
+                    transactionRepository.saveAll(pending);
+                });
+            } catch (RuntimeException e) {
+                log.error("Bulk import chunk of {} records failed", pending.size(), e);
+                response.setRejected(response.getRejected() + pending.size());
+                addError("records " + chunkStart + "-" + response.getReceived() + ": " + pending.size()
+                        + " valid records not stored, retry them");
+                pending.clear();
+                return;
+            }
+            response.setCreated(response.getCreated() + pending.size());
+            statisticService.recordCreated(pending);
+
+            // One summary per chunk instead of a notification per record
+            if (worker.getAssignedManager() != null) {
+                notificationService.createNotification(
+                        worker.getAssignedManager().getId(),
+                        "NEW_TRANSACTION",
+                        pending.get(0).getId(),
+                        pending.size() + " new transactions from " + worker.getFullName());
+            }
+            pending.clear();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.construction.app.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Keeps the monthly partitions of transactions (see V3 migration, partitioned profile) ahead of the clock
+// and detaches months past retention, so old data goes away as whole tables instead of row deletes.
+// Does nothing while transactions is a plain table.
+@Service
+public class TransactionPartitionService {
+    private static final Logger log = LoggerFactory.getLogger(TransactionPartitionService.class);
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("transactions_y(\\d{4})m(\\d{2})");
+    private static final String DEFAULT_PARTITION = "transactions_default";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private StatisticService statisticService;
+
+    @Value("${app.partitions.premake-months:3}")
+    private int premakeMonths;
+
+    // 0 keeps every month
+    @Value("${app.partitions.retention-months:0}")
+    private int retentionMonths;
+
+    @Value("${app.partitions.drop-detached:false}")
+    private boolean dropDetached;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.partitions.maintenance-cron:0 15 2 * * *}")
+    public void maintain() {
+        if (!isPartitioned()) {
+            if (retentionMonths > 0) {
+                log.warn("app.partitions.retention-months is set but transactions is not partitioned; "
+                        + "nothing is detached");
+            }
+            return;
+        }
+        YearMonth current = YearMonth.now();
+        ensurePartitions(current.atDay(1), current.plusMonths(premakeMonths).atDay(1));
+        if (retentionMonths > 0) {
+            detachBefore(current.minusMonths(retentionMonths));
+        }
+    }
+
+    // Creates the monthly partitions covering [from, to]; rows already parked in the default
+    // partition for such a month are moved into it
+    public void ensurePartitions(LocalDate from, LocalDate to) {
+        if (!isPartitioned()) {
+            return;
+        }
+        List<YearMonth> existing = listMonthlyPartitions();
+        for (YearMonth month = YearMonth.from(from); !month.isAfter(YearMonth.from(to)); month = month.plusMonths(1)) {
+            if (!existing.contains(month)) {
+                createPartition(month);
+            }
+        }
+    }
+
+    private void createPartition(YearMonth month) {
+        String name = partitionName(month);
+        String lower = month.atDay(1).toString();
+        String upper = month.plusMonths(1).atDay(1).toString();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            lockMaintenance();
+            if (Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL",
+                    Boolean.class, name))) {
+                return;
+            }
+
+            Boolean parked = jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM " + DEFAULT_PARTITION
+                    + " WHERE created_at >= ?::timestamp AND created_at < ?::timestamp)", Boolean.class, lower, upper);
+            if (!Boolean.TRUE.equals(parked)) {
+                jdbcTemplate.execute("CREATE TABLE " + name + " PARTITION OF transactions FOR VALUES FROM ('"
+                        + lower + "') TO ('" + upper + "')");
+            } else {
+                // Attaching fails while the default partition still holds rows of the range, so move them first
+                jdbcTemplate.execute("CREATE TABLE " + name
+                        + " (LIKE transactions INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+                jdbcTemplate.update("WITH moved AS (DELETE FROM " + DEFAULT_PARTITION
+                        + " WHERE created_at >= ?::timestamp AND created_at < ?::timestamp RETURNING *) "
+                        + "INSERT INTO " + name + " SELECT * FROM moved", lower, upper);
+                jdbcTemplate.execute("ALTER TABLE transactions ATTACH PARTITION " + name + " FOR VALUES FROM ('"
+                        + lower + "') TO ('" + upper + "')");
+            }
+        });
+        log.info("Created transaction partition {}", name);
+    }
+
+    private void detachBefore(YearMonth cutoff) {
+        List<String> detached = new ArrayList<>();
+        for (YearMonth month : listMonthlyPartitions()) {
+            if (!month.isBefore(cutoff)) {
+                continue;
+            }
+            String name = partitionName(month);
+            transactionTemplate.executeWithoutResult(status -> {
+                lockMaintenance();
+                jdbcTemplate.execute("ALTER TABLE transactions DETACH PARTITION " + name);
+                if (dropDetached) {
+                    jdbcTemplate.execute("DROP TABLE " + name);
+                }
+            });
+            detached.add(name);
+        }
+
+        if (!detached.isEmpty()) {
+            log.warn("Detached transaction partitions past retention ({}): {}",
+                    dropDetached ? "dropped" : "kept as standalone tables", detached);
+            // Ledger, rollups and counters no longer include the detached rows
+            statisticService.refreshDerivedStatistics();
+        }
+    }
+
+    // Serializes partition changes across instances until the surrounding transaction ends
+    private void lockMaintenance() {
+        jdbcTemplate.execute("SELECT pg_advisory_xact_lock(hashtext('transactions_partitions'))");
+    }
+
+    private boolean isPartitioned() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM pg_partitioned_table "
+                + "WHERE partrelid = 'transactions'::regclass)", Boolean.class));
+    }
+
+    private List<YearMonth> listMonthlyPartitions() {
+        List<String> names = jdbcTemplate.queryForList("SELECT c.relname FROM pg_inherits i "
+                + "JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = 'transactions'::regclass", String.class);
+        List<YearMonth> months = new ArrayList<>();
+        for (String name : names) {
+            Matcher matcher = PARTITION_NAME.matcher(name);
+            if (matcher.matches()) {
+                months.add(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+            }
+        }
+        return months;
+    }
+
+    private String partitionName(YearMonth month) {
+        return String.format("transactions_y%04dm%02d", month.getYear(), month.getMonthValue());
+    }
+}
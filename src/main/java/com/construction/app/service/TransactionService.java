@@ -1,5 +1,8 @@
 package com.construction.app.service;
 
+import com.construction.app.dto.BatchReviewItem;
+import com.construction.app.dto.BatchReviewResult;
+import com.construction.app.dto.CursorPage;
 import com.construction.app.dto.PagedResponse;
 import com.construction.app.dto.ReviewTransactionRequest;
 import com.construction.app.dto.TransactionRequest;
@@ -8,24 +11,41 @@ import com.construction.app.entity.Transaction;
 import com.construction.app.entity.User;
 import com.construction.app.enums.TransactionStatus;
 import com.construction.app.enums.TransactionType;
+import com.construction.app.repository.TransactionCursor;
+import com.construction.app.repository.TransactionFilter;
 import com.construction.app.repository.TransactionRepository;
 import com.construction.app.repository.UserRepository;
+import com.construction.app.repository.projection.StatusBreakdown;
+import com.construction.app.repository.projection.TransactionRow;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class TransactionService {
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int STREAM_FETCH_SIZE = 500;
+    private static final int MAX_BATCH_REVIEW = 500;
+
     @Autowired
     private TransactionRepository transactionRepository;
 
@@ -35,6 +55,15 @@ public class TransactionService {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private StatisticService statisticService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionStatusCounters transactionStatusCounters;
+
     public Transaction createTransaction(Long workerId, TransactionRequest request) {
         Optional<User> workerOptional = userRepository.findById(workerId);
         if (workerOptional.isEmpty()) {
@@ -43,19 +72,9 @@ public class TransactionService {
 
         User worker = workerOptional.get();
 
-        Transaction transaction = new Transaction();
-        transaction.setWorker(worker);
-        transaction.setType(TransactionType.valueOf(request.getType()));
-        transaction.setStatus(TransactionStatus.PENDING);
-        transaction.setAmount(new BigDecimal(request.getAmount()));
-        transaction.setCurrency(request.getCurrency());
-        transaction.setProduct(request.getProduct());
-        transaction.setSource(request.getSource());
-        transaction.setDescription(request.getDescription());
-        transaction.setWeightKg(new BigDecimal(request.getWeightKg()));
-        transaction.setCreatedAt(LocalDateTime.now());
-        transaction.setManager(worker.getAssignedManager());
+        Transaction transaction = newTransaction(worker, request, LocalDateTime.now());
         Transaction savedTransaction = transactionRepository.save(transaction);
+        statisticService.recordCreated(savedTransaction);
 
         // Notify manager when worker submits a new transaction
         if (worker.getAssignedManager() != null) {
@@ -69,65 +88,62 @@ public class TransactionService {
         return savedTransaction;
     }
 
-    public List<TransactionResponse> getWorkerTransactions(Long workerId) {
-        List<Transaction> transactions = transactionRepository.findByWorkerIdOrderByCreatedAtDesc(workerId);
-        return transactions.stream().map(this::convertToResponse).collect(Collectors.toList());
-    }
-
-    public List<TransactionResponse> getWorkerTransactionsByStatus(Long workerId, TransactionStatus status) {
-        List<Transaction> transactions = transactionRepository.findByWorkerIdAndStatusOrderByCreatedAtDesc(workerId,
-                status);
-        return transactions.stream().map(this::convertToResponse).collect(Collectors.toList());
-    }
-
-    public List<TransactionResponse> getManagerPendingTransactions(Long managerId) {
-        List<Transaction> transactions = transactionRepository
-                .findByManagerIdAndStatus(managerId, TransactionStatus.PENDING);
-        return transactions.stream().map(this::convertToResponse).collect(Collectors.toList());
+    Transaction newTransaction(User worker, TransactionRequest request, LocalDateTime createdAt) {
+        Transaction transaction = new Transaction();
+        transaction.setWorker(worker);
+        transaction.setType(TransactionType.valueOf(request.getType()));
+        transaction.setStatus(TransactionStatus.PENDING);
+        transaction.setAmount(new BigDecimal(request.getAmount()));
+        transaction.setCurrency(request.getCurrency());
+        transaction.setProduct(request.getProduct());
+        transaction.setSource(request.getSource());
+        transaction.setDescription(request.getDescription());
+        transaction.setWeightKg(new BigDecimal(request.getWeightKg()));
+        transaction.setCreatedAt(createdAt);
+        transaction.setManager(worker.getAssignedManager());
+        return transaction;
     }
 
-    public List<TransactionResponse> getManagerAllTransactions(Long managerId) {
-        List<Transaction> transactions = transactionRepository
-                .findByManagerIdOrderByCreatedAtDesc(managerId);
-        return transactions.stream().map(this::convertToResponse).collect(Collectors.toList());
+    public List<TransactionResponse> getTransactions(TransactionFilter filter) {
+        List<TransactionRow> rows = transactionRepository.findAllByFilter(filter);
+        return rows.stream().map(this::convertToResponse).collect(Collectors.toList());
     }
 
-    public List<TransactionResponse> getManagerTransactionsByStatus(Long managerId, TransactionStatus status) {
-        List<Transaction> transactions = transactionRepository
-                .findByManagerIdAndStatusOrderByCreatedAtDesc(managerId, status);
-        return transactions.stream().map(this::convertToResponse).collect(Collectors.toList());
+    public CursorPage<TransactionResponse> getTransactionsByCursor(TransactionFilter filter, String cursor,
+            boolean backward, int size) {
+        return findCursorPage(filter, cursor, backward, size, "none");
     }
 
-    public List<TransactionResponse> getAllAcceptedTransactions() {
-        List<Transaction> transactions = transactionRepository
-                .findByStatusOrderByCreatedAtDesc(TransactionStatus.ACCEPTED);
-        return transactions.stream().map(this::convertToResponse).collect(Collectors.toList());
+    // Writes the rows as a JSON array while scrolling the result set, one row in memory at a time
+    @Transactional(readOnly = true)
+    public void streamTransactions(TransactionFilter filter, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.writeStartArray();
+        try (Stream<TransactionRow> rows = transactionRepository.streamByFilter(filter, STREAM_FETCH_SIZE)) {
+            Iterator<TransactionRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                generator.writeObject(convertToResponse(iterator.next()));
+            }
+        }
+        generator.writeEndArray();
+        generator.close();
     }
 
     public PagedResponse<TransactionResponse> getAllAcceptedTransactionsPaginated(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<Transaction> transactionPage = transactionRepository
-                .findByStatusOrderByCreatedAtDesc(TransactionStatus.ACCEPTED, pageable);
-
-        List<TransactionResponse> content = transactionPage.getContent()
-                .stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
-
-        return new PagedResponse<>(
-                content,
-                transactionPage.getNumber(),
-                transactionPage.getSize(),
-                transactionPage.getTotalElements());
+        return findOffsetPage(TransactionFilter.forStatus(TransactionStatus.ACCEPTED), page, size);
     }
 
+    @Transactional
     public Transaction reviewTransaction(Long transactionId, Long managerId, ReviewTransactionRequest request) {
-        Optional<Transaction> transactionOptional = transactionRepository.findById(transactionId);
+        // Locked until commit, so a concurrent review waits and then sees this one's status
+        Optional<Transaction> transactionOptional = transactionRepository.findByIdForUpdate(transactionId);
         if (transactionOptional.isEmpty()) {
             throw new RuntimeException("Transaction not found");
         }
 
         Transaction transaction = transactionOptional.get();
+        TransactionStatus previousStatus = transaction.getStatus();
 
         // Map action to status: ACCEPT -> ACCEPTED, REJECT -> REJECTED, COMMENT ->
         // COMMENTED
@@ -149,6 +165,9 @@ public class TransactionService {
 
         Transaction savedTransaction = transactionRepository.save(transaction);
 
+        // Keep running totals in step with the status change, in the same DB transaction
+        statisticService.recordStatusChange(savedTransaction, previousStatus);
+
         // Create notification for the worker
         Long workerId = transaction.getWorker().getId();
         String message = buildNotificationMessage(action, request.getComment());
@@ -157,6 +176,96 @@ public class TransactionService {
         return savedTransaction;
     }
 
+    // Loads and locks all rows in one query and flushes the status changes as batched UPDATEs in one transaction;
+    // items that cannot be applied are reported back instead of failing the whole batch
+    @Transactional
+    public List<BatchReviewResult> reviewTransactions(Long managerId, List<BatchReviewItem> items) {
+        if (items == null || items.contains(null)) {
+            throw new IllegalArgumentException("A list of review items is required");
+        }
+        if (items.size() > MAX_BATCH_REVIEW) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_REVIEW + " transactions can be reviewed at once");
+        }
+
+        Set<Long> ids = new HashSet<>();
+        for (BatchReviewItem item : items) {
+            if (item.getId() != null) {
+                ids.add(item.getId());
+            }
+        }
+        Map<Long, Transaction> transactionsById = new HashMap<>();
+        for (Transaction transaction : transactionRepository.findAllByIdInForUpdate(ids)) {
+            transactionsById.put(transaction.getId(), transaction);
+        }
+
+        User manager = userRepository.getReferenceById(managerId);
+        LocalDateTime reviewedAt = LocalDateTime.now();
+        List<BatchReviewResult> results = new ArrayList<>();
+        List<Transaction> reviewed = new ArrayList<>();
+        List<TransactionStatus> previousStatuses = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+
+        for (BatchReviewItem item : items) {
+            Transaction transaction = transactionsById.get(item.getId());
+            TransactionStatus newStatus = statusForAction(item.getAction());
+            if (transaction == null) {
+                results.add(BatchReviewResult.failure(item.getId(), "Transaction not found"));
+                continue;
+            }
+            if (newStatus == null) {
+                results.add(BatchReviewResult.failure(item.getId(), "Invalid action: " + item.getAction()));
+                continue;
+            }
+            if (!seen.add(transaction.getId())) {
+                results.add(BatchReviewResult.failure(item.getId(), "Duplicate transaction in batch"));
+                continue;
+            }
+
+            previousStatuses.add(transaction.getStatus());
+            transaction.setStatus(newStatus);
+            transaction.setManager(manager);
+            transaction.setManagerComment(item.getComment());
+            transaction.setReviewedAt(reviewedAt);
+            reviewed.add(transaction);
+            results.add(BatchReviewResult.success(transaction.getId(), newStatus.toString()));
+        }
+
+        transactionRepository.saveAll(reviewed);
+        statisticService.recordStatusChanges(reviewed, previousStatuses);
+
+        // Queued for the async writer after commit, stored together in one JDBC batch
+        for (int i = 0; i < reviewed.size(); i++) {
+            Transaction transaction = reviewed.get(i);
+            String action = actionForStatus(transaction.getStatus());
+            notificationService.createNotification(transaction.getWorker().getId(), action, transaction.getId(),
+                    buildNotificationMessage(action, transaction.getManagerComment()));
+        }
+
+        return results;
+    }
+
+    private TransactionStatus statusForAction(String action) {
+        if ("ACCEPT".equals(action)) {
+            return TransactionStatus.ACCEPTED;
+        } else if ("REJECT".equals(action)) {
+            return TransactionStatus.REJECTED;
+        } else if ("COMMENT".equals(action)) {
+            return TransactionStatus.COMMENTED;
+        }
+        return null;
+    }
+
+    private String actionForStatus(TransactionStatus status) {
+        switch (status) {
+            case ACCEPTED:
+                return "ACCEPT";
+            case REJECTED:
+                return "REJECT";
+            default:
+                return "COMMENT";
+        }
+    }
+
     private String buildNotificationMessage(String action, String comment) {
         switch (action) {
             case "ACCEPT":
@@ -170,92 +279,146 @@ public class TransactionService {
         }
     }
 
-    private TransactionResponse convertToResponse(Transaction transaction) {
+    TransactionResponse convertToResponse(TransactionRow row) {
         TransactionResponse response = new TransactionResponse();
-        response.setId(transaction.getId());
-        response.setWorkerId(transaction.getWorker().getId());
-        response.setWorkerName(transaction.getWorker().getFullName());
-        if (transaction.getManager() != null) {
-            response.setManagerId(transaction.getManager().getId());
-            response.setManagerName(transaction.getManager().getFullName());
-        }
-        response.setType(transaction.getType().toString());
-        response.setStatus(transaction.getStatus().toString());
-        response.setAmount(transaction.getAmount().toString());
-        response.setCurrency(transaction.getCurrency());
-        response.setProduct(transaction.getProduct());
-        response.setSource(transaction.getSource());
-        response.setDescription(transaction.getDescription());
-        response.setWeightKg(transaction.getWeightKg().toString());
-        response.setManagerComment(transaction.getManagerComment());
-        response.setCreatedAt(transaction.getCreatedAt().toString());
-        if (transaction.getReviewedAt() != null) {
-            response.setReviewedAt(transaction.getReviewedAt().toString());
+        response.setId(row.getId());
+        response.setWorkerId(row.getWorkerId());
+        response.setWorkerName(row.getWorkerName());
+        response.setManagerId(row.getManagerId());
+        response.setManagerName(row.getManagerName());
+        response.setType(row.getType().toString());
+        response.setStatus(row.getStatus().toString());
+        response.setAmount(row.getAmount().toString());
+        response.setCurrency(row.getCurrency());
+        response.setProduct(row.getProduct());
+        response.setSource(row.getSource());
+        response.setDescription(row.getDescription());
+        response.setWeightKg(row.getWeightKg().toString());
+        response.setManagerComment(row.getManagerComment());
+        response.setCreatedAt(row.getCreatedAt().toString());
+        if (row.getReviewedAt() != null) {
+            response.setReviewedAt(row.getReviewedAt().toString());
         }
         return response;
     }
 
     public PagedResponse<TransactionResponse> getDirectorFilteredTransactions(
             int page, int size, String status, String workerUsername) {
+        return findOffsetPage(directorFilter(status, workerUsername), page, size);
+    }
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<Transaction> transactionPage;
+    private PagedResponse<TransactionResponse> findOffsetPage(TransactionFilter filter, int page, int size) {
+        int pageSize = Math.max(1, size);
+        List<TransactionResponse> content = transactionRepository
+                .findSlice(filter, Math.max(0, page) * pageSize, pageSize)
+                .stream()
+                .map(this::convertToResponse)
+                .collect(Collectors.toList());
 
+        return new PagedResponse<>(content, page, pageSize, transactionRepository.countByFilter(filter));
+    }
+
+    public CursorPage<TransactionResponse> getDirectorTransactionsByCursor(
+            String cursor, boolean backward, int size, String status, String workerUsername, String total) {
+        return findCursorPage(directorFilter(status, workerUsername), cursor, backward, size, total);
+    }
+
+    public TransactionFilter directorFilter(String status, String workerUsername) {
+        TransactionFilter filter = new TransactionFilter();
         if (status != null && !status.isEmpty() && !"all".equalsIgnoreCase(status)) {
-            TransactionStatus transactionStatus = TransactionStatus.valueOf(status.toUpperCase());
+            filter.setStatus(TransactionStatus.valueOf(status.toUpperCase()));
+        }
+        if (workerUsername != null && !workerUsername.isEmpty() && !"all".equalsIgnoreCase(workerUsername)) {
+            filter.setWorkerUsername(workerUsername);
+        }
+        return filter;
+    }
 
-            if (workerUsername != null && !workerUsername.isEmpty() && !"all".equalsIgnoreCase(workerUsername)) {
-                // Both status and worker filter
-                transactionPage = transactionRepository.findByStatusAndWorkerUsernameQuery(
-                        transactionStatus, workerUsername, pageable);
+    // Seeks on (createdAt, id), so every page costs the same as the first one
+    CursorPage<TransactionResponse> findCursorPage(TransactionFilter filter, String cursorToken, boolean backward,
+            int size, String total) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        TransactionCursor cursor = cursorToken == null || cursorToken.isEmpty()
+                ? null
+                : TransactionCursor.decode(cursorToken);
+        boolean seekBackward = backward && cursor != null;
+
+        // One extra row tells whether another page exists in the direction of travel
+        List<TransactionRow> rows = transactionRepository.findPage(filter, cursor, seekBackward, pageSize + 1);
+        boolean more = rows.size() > pageSize;
+        if (more) {
+            rows = seekBackward ? rows.subList(1, rows.size()) : rows.subList(0, pageSize);
+        }
+
+        boolean hasNext = seekBackward || more;
+        boolean hasPrevious = seekBackward ? more : cursor != null;
+        String nextCursor = hasNext && !rows.isEmpty() ? cursorOf(rows.get(rows.size() - 1)).encode() : null;
+        String prevCursor = hasPrevious && !rows.isEmpty() ? cursorOf(rows.get(0)).encode() : null;
+
+        List<TransactionResponse> content = rows.stream().map(this::convertToResponse).collect(Collectors.toList());
+        CursorPage<TransactionResponse> page = new CursorPage<>(content, pageSize, nextCursor, prevCursor);
+
+        if ("exact".equalsIgnoreCase(total)) {
+            page.setTotalElements(transactionRepository.countByFilter(filter));
+        } else if ("approximate".equalsIgnoreCase(total)) {
+            if (filter.isEmpty()) {
+                page.setTotalElements(transactionRepository.estimateRowCount());
+                page.setTotalApproximate(true);
             } else {
-                // Only status filter
-                transactionPage = transactionRepository.findByStatusOrderByCreatedAtDesc(
-                        transactionStatus, pageable);
+                page.setTotalElements(transactionRepository.countByFilter(filter));
             }
-        } else if (workerUsername != null && !workerUsername.isEmpty() && !"all".equalsIgnoreCase(workerUsername)) {
-            // Only worker filter (all statuses)
-            transactionPage = transactionRepository.findByWorkerUsernameQuery(
-                    workerUsername, pageable);
-        } else {
-            // No filters - return all transactions for director
-            transactionPage = transactionRepository.findAllByOrderByCreatedAtDesc(pageable);
         }
 
-        List<TransactionResponse> content = transactionPage.getContent()
-                .stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
-
-        return new PagedResponse<>(
-                content,
-                transactionPage.getNumber(),
-                transactionPage.getSize(),
-                transactionPage.getTotalElements());
+        return page;
     }
 
-    // Director-scoped system-wide queries
-    public List<TransactionResponse> getAllPendingTransactions() {
-        List<Transaction> transactions = transactionRepository
-                .findByStatusOrderByCreatedAtDesc(TransactionStatus.PENDING);
-        return transactions.stream().map(this::convertToResponse).collect(Collectors.toList());
+    private TransactionCursor cursorOf(TransactionRow row) {
+        return new TransactionCursor(row.getCreatedAt(), row.getId());
     }
 
-    public List<TransactionResponse> getAllRejectedTransactions() {
-        List<Transaction> transactions = transactionRepository
-                .findByStatusOrderByCreatedAtDesc(TransactionStatus.REJECTED);
-        return transactions.stream().map(this::convertToResponse).collect(Collectors.toList());
-    }
+    // Plain counts come from the in-memory counters; breakdowns run one grouping-sets query for everything
+    public Map<String, Object> getDirectorSummaryStats(boolean byManager, boolean byWorker) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        if (!byManager && !byWorker) {
+            putStatusCounts(stats, transactionStatusCounters.getCounts());
+            return stats;
+        }
+
+        Map<TransactionStatus, Long> totals = new EnumMap<>(TransactionStatus.class);
+        Map<String, Map<String, Long>> managers = new LinkedHashMap<>();
+        Map<String, Map<String, Long>> workers = new LinkedHashMap<>();
+        for (StatusBreakdown row : transactionRepository.countStatusBreakdown()) {
+            int level = row.getGroupingLevel();
+            String status = row.getStatus().name().toLowerCase();
+            if (level == 3) {
+                totals.put(row.getStatus(), row.getTransactionCount());
+            } else if (level == 1 && byManager) {
+                String managerKey = row.getManagerId() != null ? row.getManagerId().toString() : "unassigned";
+                managers.computeIfAbsent(managerKey, key -> new LinkedHashMap<>())
+                        .put(status, row.getTransactionCount());
+            } else if (level == 2 && byWorker) {
+                workers.computeIfAbsent(row.getWorkerId().toString(), key -> new LinkedHashMap<>())
+                        .put(status, row.getTransactionCount());
+            }
+        }
 
-    public Map<String, Long> getDirectorSummaryStats() {
-        long accepted = transactionRepository.countByStatus(TransactionStatus.ACCEPTED);
-        long pending = transactionRepository.countByStatus(TransactionStatus.PENDING);
-        long rejected = transactionRepository.countByStatus(TransactionStatus.REJECTED);
-        Map<String, Long> stats = new java.util.LinkedHashMap<>();
-        stats.put("accepted", accepted);
-        stats.put("pending", pending);
-        stats.put("rejected", rejected);
-        stats.put("total", accepted + pending + rejected);
+        putStatusCounts(stats, totals);
+        if (byManager) {
+            stats.put("byManager", managers);
+        }
+        if (byWorker) {
+            stats.put("byWorker", workers);
+        }
         return stats;
     }
+
+    private void putStatusCounts(Map<String, Object> stats, Map<TransactionStatus, Long> counts) {
+        long total = 0;
+        for (TransactionStatus status : TransactionStatus.values()) {
+            long count = counts.getOrDefault(status, 0L);
+            stats.put(status.name().toLowerCase(), count);
+            total += count;
+        }
+        stats.put("total", total);
+    }
 }
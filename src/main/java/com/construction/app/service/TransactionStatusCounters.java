@@ -0,0 +1,80 @@
+package com.construction.app.service;
+
+import com.construction.app.enums.TransactionStatus;
+import com.construction.app.repository.TransactionRepository;
+import com.construction.app.repository.projection.StatusCount;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// Transactions per status, seeded from one grouped query on first use and moved along on create and review
+@Component
+public class TransactionStatusCounters {
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private StatisticsCache statisticsCache;
+
+    // Every status is present from the start, so the map itself is never modified afterwards
+    private final Map<TransactionStatus, LongAdder> counts = new EnumMap<>(TransactionStatus.class);
+    private volatile boolean seeded;
+
+    public TransactionStatusCounters() {
+        for (TransactionStatus status : TransactionStatus.values()) {
+            counts.put(status, new LongAdder());
+        }
+    }
+
+    public Map<TransactionStatus, Long> getCounts() {
+        if (!seeded) {
+            reload();
+        }
+        Map<TransactionStatus, Long> snapshot = new LinkedHashMap<>();
+        for (Map.Entry<TransactionStatus, LongAdder> entry : counts.entrySet()) {
+            snapshot.put(entry.getKey(), Math.max(0, entry.getValue().sum()));
+        }
+        return snapshot;
+    }
+
+    // Called after commit; before the first seed there is nothing to adjust, the seed reads the committed rows
+    void add(TransactionStatus status, long delta) {
+        if (seeded && status != null) {
+            counts.get(status).add(delta);
+        }
+    }
+
+    void move(TransactionStatus from, TransactionStatus to) {
+        if (from != to) {
+            add(from, -1);
+            add(to, 1);
+        }
+    }
+
+    // Also corrects drift from changes committed while a seed query was running
+    @Scheduled(fixedDelayString = "${app.statistics.status-reconcile-ms:300000}")
+    public synchronized void reload() {
+        Map<TransactionStatus, Long> actual = new EnumMap<>(TransactionStatus.class);
+        for (StatusCount row : transactionRepository.countGroupedByStatus()) {
+            actual.put(row.getStatus(), row.getTransactionCount());
+        }
+        boolean corrected = false;
+        for (Map.Entry<TransactionStatus, LongAdder> entry : counts.entrySet()) {
+            long drift = actual.getOrDefault(entry.getKey(), 0L) - entry.getValue().sum();
+            if (drift != 0) {
+                entry.getValue().add(drift);
+                corrected = true;
+            }
+        }
+        seeded = true;
+        // Cached summary stats were served from the uncorrected counts
+        if (corrected) {
+            statisticsCache.invalidate();
+        }
+    }
+}
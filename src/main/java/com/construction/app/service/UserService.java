@@ -4,6 +4,7 @@ import com.construction.app.dto.UserResponse;
 import com.construction.app.entity.User;
 import com.construction.app.enums.UserRole;
 import com.construction.app.repository.UserRepository;
+import com.construction.app.security.UserIdCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -21,6 +22,9 @@ public class UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private UserIdCache userIdCache;
+
     public List<User> getAllUsers() {
         return userRepository.findAll();
     }
@@ -98,6 +102,7 @@ public class UserService {
         // Soft delete by marking inactive
         user.setActive(false);
         userRepository.save(user);
+        userIdCache.evict(user.getUsername());
     }
 
     public User assignManagerToWorker(Long workerId, Long managerId) {
@@ -123,6 +128,7 @@ public class UserService {
         }
 
         worker.setAssignedManager(manager);
+        userIdCache.evict(worker.getUsername());
         return userRepository.save(worker);
     }
 
@@ -145,6 +151,7 @@ public class UserService {
             user.setAssignedManager(null);
         }
 
+        userIdCache.evict(user.getUsername());
         return userRepository.save(user);
     }
 }
@@ -0,0 +1,38 @@
+-- Composite indexes for the list endpoints. Each one matches a filter
+-- (worker, manager, status or a combination) followed by the
+-- (created_at, id) keyset order, so pages come straight off the index
+-- without a sort. A backward index scan serves the DESC order.
+-- CONCURRENTLY keeps the table writable while the indexes build.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tx_worker_created
+    ON transactions (worker_id, created_at, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tx_manager_created
+    ON transactions (manager_id, created_at, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tx_worker_status_created
+    ON transactions (worker_id, status, created_at, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tx_manager_status_created
+    ON transactions (manager_id, status, created_at, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tx_status_created
+    ON transactions (status, created_at, id);
+
+-- Unfiltered director listing; with created_at alone the id tie-break
+-- still needed an incremental sort
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tx_created_id
+    ON transactions (created_at, id);
+
+-- The review queue only holds a small share of all rows, so this index
+-- stays small and cached
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tx_pending
+    ON transactions (manager_id, created_at, id) WHERE status = 'PENDING';
+
+-- The composite indexes above start with these columns, so they make
+-- the old single-column indexes redundant
+DROP INDEX CONCURRENTLY IF EXISTS idx_tx_status;
+DROP INDEX CONCURRENTLY IF EXISTS idx_tx_status_worker;
+DROP INDEX CONCURRENTLY IF EXISTS idx_tx_worker_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_tx_manager_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_tx_created_at;
@@ -0,0 +1,31 @@
+-- Tables, sequence and index added on top of the ddl-auto=update schema.
+-- Databases baselined at V1 may or may not have them already, depending
+-- on whether a ddl-auto=update build created them, hence IF NOT EXISTS.
+
+-- Matches the pooled allocation size of the Transaction entity; existing
+-- ids are skipped by TransactionSequenceInitializer at startup
+CREATE SEQUENCE IF NOT EXISTS transactions_seq START WITH 1 INCREMENT BY 50;
+
+-- Ids now come from transactions_seq
+ALTER TABLE transactions ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE INDEX IF NOT EXISTS idx_notif_worker_id_id ON notifications (worker_id, id);
+
+CREATE TABLE IF NOT EXISTS statistic_rollups (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    granularity       VARCHAR(255)   NOT NULL,
+    bucket_start      TIMESTAMP(6)   NOT NULL,
+    total_income      NUMERIC(19, 2) NOT NULL,
+    total_spending    NUMERIC(19, 2) NOT NULL,
+    transaction_count BIGINT         NOT NULL,
+    updated_at        TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT uk_rollup_granularity_bucket UNIQUE (granularity, bucket_start)
+);
+
+CREATE TABLE IF NOT EXISTS ledger_totals (
+    id                BIGINT PRIMARY KEY,
+    total_income      NUMERIC(19, 2) NOT NULL,
+    total_spending    NUMERIC(19, 2) NOT NULL,
+    transaction_count BIGINT         NOT NULL,
+    updated_at        TIMESTAMP(6)   NOT NULL
+);
@@ -0,0 +1,69 @@
+-- Schema as previously generated by hibernate ddl-auto=update.
+-- Existing databases are baselined at this version and skip it, so
+-- anything added since belongs in V1_1 or later.
+
+CREATE TABLE users (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username            VARCHAR(255) NOT NULL,
+    password            VARCHAR(255) NOT NULL,
+    full_name           VARCHAR(255) NOT NULL,
+    role                VARCHAR(255) NOT NULL,
+    active              BOOLEAN      NOT NULL,
+    created_at          TIMESTAMP(6) NOT NULL,
+    updated_at          TIMESTAMP(6) NOT NULL,
+    assigned_manager_id BIGINT,
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT fk_users_assigned_manager FOREIGN KEY (assigned_manager_id) REFERENCES users (id)
+);
+
+CREATE TABLE transactions (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    worker_id       BIGINT         NOT NULL,
+    manager_id      BIGINT,
+    type            VARCHAR(255)   NOT NULL,
+    status          VARCHAR(255)   NOT NULL,
+    amount          NUMERIC(19, 2) NOT NULL,
+    currency        VARCHAR(255)   NOT NULL,
+    product         VARCHAR(255)   NOT NULL,
+    source          VARCHAR(255)   NOT NULL,
+    description     TEXT,
+    weight_kg       NUMERIC(10, 2) NOT NULL,
+    manager_comment TEXT,
+    created_at      TIMESTAMP(6)   NOT NULL,
+    reviewed_at     TIMESTAMP(6),
+    CONSTRAINT fk_transactions_worker FOREIGN KEY (worker_id) REFERENCES users (id),
+    CONSTRAINT fk_transactions_manager FOREIGN KEY (manager_id) REFERENCES users (id)
+);
+
+CREATE INDEX idx_tx_status ON transactions (status);
+CREATE INDEX idx_tx_worker_id ON transactions (worker_id);
+CREATE INDEX idx_tx_manager_id ON transactions (manager_id);
+CREATE INDEX idx_tx_created_at ON transactions (created_at);
+CREATE INDEX idx_tx_status_worker ON transactions (status, worker_id);
+
+CREATE TABLE notifications (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    worker_id      BIGINT       NOT NULL,
+    type           VARCHAR(255) NOT NULL,
+    transaction_id BIGINT       NOT NULL,
+    message        TEXT,
+    is_read        BOOLEAN      NOT NULL,
+    created_at     TIMESTAMP(6) NOT NULL,
+    CONSTRAINT fk_notifications_worker FOREIGN KEY (worker_id) REFERENCES users (id)
+);
+
+CREATE INDEX idx_worker_id ON notifications (worker_id);
+CREATE INDEX idx_is_read ON notifications (is_read);
+CREATE INDEX idx_worker_is_read ON notifications (worker_id, is_read);
+
+CREATE TABLE statistic_snapshots (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    snapshot_date     DATE           NOT NULL,
+    total_income      NUMERIC(19, 2) NOT NULL,
+    total_spending    NUMERIC(19, 2) NOT NULL,
+    net_profit        NUMERIC(19, 2) NOT NULL,
+    transaction_count INTEGER        NOT NULL,
+    CONSTRAINT uk_snapshot_date UNIQUE (snapshot_date)
+);
+
+CREATE INDEX idx_snapshot_date ON statistic_snapshots (snapshot_date);
@@ -0,0 +1,85 @@
+-- Rebuilds transactions as a table range-partitioned by month on created_at.
+-- Range filters on created_at then only touch the matching months, and
+-- old months can be detached and dropped instead of being deleted row by
+-- row. The partition maintenance job creates future months and detaches
+-- expired ones. Rows outside every monthly range land in
+-- transactions_default.
+--
+-- Only applied with the partitioned profile, which leaves out V2: the
+-- indexes are built once, on the new table. This copies the whole table
+-- under an exclusive lock; enable the profile in a maintenance window on
+-- large databases.
+
+-- Index and constraint names are schema-wide, so free them for the new table
+DROP INDEX IF EXISTS idx_tx_created_id;
+DROP INDEX IF EXISTS idx_tx_worker_created;
+DROP INDEX IF EXISTS idx_tx_manager_created;
+DROP INDEX IF EXISTS idx_tx_worker_status_created;
+DROP INDEX IF EXISTS idx_tx_manager_status_created;
+DROP INDEX IF EXISTS idx_tx_status_created;
+DROP INDEX IF EXISTS idx_tx_pending;
+ALTER TABLE transactions RENAME TO transactions_unpartitioned;
+ALTER TABLE transactions_unpartitioned RENAME CONSTRAINT transactions_pkey TO transactions_unpartitioned_pkey;
+
+-- The partition key has to be part of the primary key; ids stay unique through transactions_seq
+CREATE TABLE transactions (
+    id              BIGINT         NOT NULL,
+    worker_id       BIGINT         NOT NULL,
+    manager_id      BIGINT,
+    type            VARCHAR(255)   NOT NULL,
+    status          VARCHAR(255)   NOT NULL,
+    amount          NUMERIC(19, 2) NOT NULL,
+    currency        VARCHAR(255)   NOT NULL,
+    product         VARCHAR(255)   NOT NULL,
+    source          VARCHAR(255)   NOT NULL,
+    description     TEXT,
+    weight_kg       NUMERIC(10, 2) NOT NULL,
+    manager_comment TEXT,
+    created_at      TIMESTAMP(6)   NOT NULL,
+    reviewed_at     TIMESTAMP(6),
+    CONSTRAINT transactions_pkey PRIMARY KEY (id, created_at),
+    CONSTRAINT fk_transactions_worker FOREIGN KEY (worker_id) REFERENCES users (id),
+    CONSTRAINT fk_transactions_manager FOREIGN KEY (manager_id) REFERENCES users (id)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE transactions_default PARTITION OF transactions DEFAULT;
+
+-- One partition per month from the oldest row up to three months ahead
+DO $$
+DECLARE
+    first_month DATE;
+    last_month  DATE;
+    month_start DATE;
+BEGIN
+    SELECT date_trunc('month', COALESCE(MIN(created_at), now()))::date,
+           (date_trunc('month', GREATEST(COALESCE(MAX(created_at), now()), now())) + INTERVAL '3 months')::date
+    INTO first_month, last_month
+    FROM transactions_unpartitioned;
+
+    month_start := first_month;
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF transactions FOR VALUES FROM (%L) TO (%L)',
+                       'transactions_' || to_char(month_start, '"y"YYYY"m"MM'),
+                       month_start, (month_start + INTERVAL '1 month')::date);
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO transactions (id, worker_id, manager_id, type, status, amount, currency, product, source,
+                          description, weight_kg, manager_comment, created_at, reviewed_at)
+SELECT id, worker_id, manager_id, type, status, amount, currency, product, source,
+       description, weight_kg, manager_comment, created_at, reviewed_at
+FROM transactions_unpartitioned;
+
+DROP TABLE transactions_unpartitioned;
+
+-- Indexes on the parent are created on every partition, including ones added later
+CREATE INDEX idx_tx_created_id ON transactions (created_at, id);
+CREATE INDEX idx_tx_worker_created ON transactions (worker_id, created_at, id);
+CREATE INDEX idx_tx_manager_created ON transactions (manager_id, created_at, id);
+CREATE INDEX idx_tx_worker_status_created ON transactions (worker_id, status, created_at, id);
+CREATE INDEX idx_tx_manager_status_created ON transactions (manager_id, status, created_at, id);
+CREATE INDEX idx_tx_status_created ON transactions (status, created_at, id);
+CREATE INDEX idx_tx_pending ON transactions (manager_id, created_at, id) WHERE status = 'PENDING';
+
+ANALYZE transactions;
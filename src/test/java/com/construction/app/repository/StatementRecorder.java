@@ -0,0 +1,97 @@
+package com.construction.app.repository;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Captures the SQL and bind values of the SELECTs Hibernate prepares while recording, so tests can
+// EXPLAIN exactly what the repositories send
+final class StatementRecorder {
+    private static final List<Recorded> recorded = new CopyOnWriteArrayList<>();
+    private static volatile boolean active;
+
+    private StatementRecorder() {
+    }
+
+    static DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (method, args, result) ->
+                "getConnection".equals(method.getName()) ? wrapConnection((Connection) result) : result);
+    }
+
+    static void start() {
+        recorded.clear();
+        active = true;
+    }
+
+    static List<Recorded> stop() {
+        active = false;
+        return new ArrayList<>(recorded);
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (method, args, result) -> {
+            if (active && "prepareStatement".equals(method.getName()) && args[0] instanceof String sql
+                    && sql.trim().toLowerCase().startsWith("select")) {
+                return wrapStatement((PreparedStatement) result, sql);
+            }
+            return result;
+        });
+    }
+
+    private static PreparedStatement wrapStatement(PreparedStatement statement, String sql) {
+        Recorded statementRecord = new Recorded(sql);
+        return proxy(PreparedStatement.class, statement, (method, args, result) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                statementRecord.parameters.put(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("executeQuery") || name.equals("execute")) {
+                recorded.add(statementRecord);
+            }
+            return result;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, AfterCall afterCall) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            return afterCall.apply(method, args, result);
+        };
+        return (T) Proxy.newProxyInstance(StatementRecorder.class.getClassLoader(), new Class<?>[] { type }, handler);
+    }
+
+    private interface AfterCall {
+        Object apply(Method method, Object[] args, Object result) throws Throwable;
+    }
+
+    static final class Recorded {
+        private final String sql;
+        private final Map<Integer, Object> parameters = new TreeMap<>();
+
+        Recorded(String sql) {
+            this.sql = sql;
+        }
+
+        String getSql() {
+            return sql;
+        }
+
+        Object[] getParameters() {
+            return parameters.values().toArray();
+        }
+    }
+}
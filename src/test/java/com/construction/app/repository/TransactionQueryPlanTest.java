@@ -0,0 +1,221 @@
+package com.construction.app.repository;
+
+import com.construction.app.dto.LoadGenerationRequest;
+import com.construction.app.enums.TransactionStatus;
+import com.construction.app.repository.projection.TransactionRow;
+import com.construction.app.service.LoadGenerationService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// EXPLAINs the SQL the transaction repositories actually send, with the bound values, against a seeded and
+// analyzed database, and fails on a sequential scan of a large table or a sort of a large input.
+// Whole-table aggregates (status counts, performance, ledger reconcile) and the full export/stream reads are
+// expected to scan everything and are not checked here.
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TransactionQueryPlanTest {
+    private static final int SEED_ROWS = 200_000;
+    // Anything at or below this is read in full no matter which plan is chosen
+    private static final long SMALL_INPUT = 1_000;
+    private static final int PAGE = 51;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private LoadGenerationService loadGenerationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Long workerId;
+    private Long managerId;
+    private String workerUsername;
+    private TransactionCursor cursor;
+
+    @TestConfiguration
+    static class Recording {
+        @Bean
+        static BeanPostProcessor recordingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? StatementRecorder.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    @BeforeAll
+    void seed() {
+        // A bit over a year, so the rows also spread over every monthly partition with the partitioned profile
+        LoadGenerationRequest request = new LoadGenerationRequest();
+        request.setTotal(SEED_ROWS);
+        request.setDays(400);
+        request.setSeed(7);
+        loadGenerationService.generate(request);
+        jdbcTemplate.execute("ANALYZE");
+
+        Map<String, Object> sample = jdbcTemplate.queryForMap("SELECT t.worker_id, t.manager_id, u.username "
+                + "FROM transactions t JOIN users u ON u.id = t.worker_id WHERE t.manager_id IS NOT NULL LIMIT 1");
+        workerId = ((Number) sample.get("worker_id")).longValue();
+        managerId = ((Number) sample.get("manager_id")).longValue();
+        workerUsername = (String) sample.get("username");
+
+        // A cursor in the middle of the data, like a client a few pages in
+        TransactionRow middle = transactionRepository.findSlice(new TransactionFilter(), SEED_ROWS / 2, 1).get(0);
+        cursor = new TransactionCursor(middle.getCreatedAt(), middle.getId());
+    }
+
+    @Test
+    void workerHistoryIsServedFromIndexes() {
+        assertPlans(() -> {
+            for (TransactionStatus status : new TransactionStatus[] { null, TransactionStatus.ACCEPTED }) {
+                TransactionFilter filter = TransactionFilter.forWorker(workerId, status);
+                transactionRepository.findSlice(filter, 0, PAGE);
+                transactionRepository.findPage(filter, null, false, PAGE);
+                transactionRepository.findPage(filter, cursor, false, PAGE);
+                transactionRepository.findPage(filter, cursor, true, PAGE);
+            }
+        });
+    }
+
+    @Test
+    void managerQueuesAreServedFromIndexes() {
+        assertPlans(() -> {
+            for (TransactionStatus status : new TransactionStatus[] {
+                    null, TransactionStatus.PENDING, TransactionStatus.ACCEPTED }) {
+                TransactionFilter filter = TransactionFilter.forManager(managerId, status);
+                transactionRepository.findSlice(filter, 0, PAGE);
+                transactionRepository.findPage(filter, null, false, PAGE);
+                transactionRepository.findPage(filter, cursor, false, PAGE);
+            }
+            transactionRepository.countByFilter(TransactionFilter.forManager(managerId, TransactionStatus.PENDING));
+        });
+    }
+
+    @Test
+    void directorListingIsServedFromIndexes() {
+        TransactionFilter byWorker = TransactionFilter.forStatus(TransactionStatus.ACCEPTED);
+        byWorker.setWorkerUsername(workerUsername);
+
+        assertPlans(() -> {
+            for (TransactionFilter filter : List.of(new TransactionFilter(), byWorker,
+                    TransactionFilter.forStatus(TransactionStatus.ACCEPTED),
+                    TransactionFilter.forStatus(TransactionStatus.PENDING))) {
+                transactionRepository.findSlice(filter, 0, PAGE);
+                transactionRepository.findPage(filter, null, false, PAGE);
+                transactionRepository.findPage(filter, cursor, false, PAGE);
+                transactionRepository.findPage(filter, cursor, true, PAGE);
+            }
+            transactionRepository.countByFilter(TransactionFilter.forStatus(TransactionStatus.PENDING));
+        });
+    }
+
+    @Test
+    void lookupsAndRecentRangesAreServedFromIndexes() {
+        List<Long> ids = new ArrayList<>();
+        for (TransactionRow row : transactionRepository.findSlice(new TransactionFilter(), 0, PAGE)) {
+            ids.add(row.getId());
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        assertPlans(() -> {
+            // The review lookup locks its rows, so it needs a read-write transaction around it
+            transactionTemplate.executeWithoutResult(status -> transactionRepository.findAllByIdInForUpdate(ids));
+            transactionRepository.findEarliestCreatedAt();
+            transactionRepository.sumByTypeForStatusBetween(TransactionStatus.ACCEPTED, now.minusHours(24), now);
+            transactionRepository.sumByBucketAndType("hour", TransactionStatus.ACCEPTED.name(),
+                    now.minusHours(24), now);
+            transactionRepository.findByCreatedAtBetweenAndStatusOrderByCreatedAtAsc(
+                    LocalDate.now().atStartOfDay(), now, TransactionStatus.ACCEPTED);
+        });
+    }
+
+    private void assertPlans(Runnable queries) {
+        List<StatementRecorder.Recorded> statements;
+        StatementRecorder.start();
+        try {
+            queries.run();
+        } finally {
+            statements = StatementRecorder.stop();
+        }
+        assertFalse(statements.isEmpty(), "no statements were recorded");
+
+        List<String> failures = new ArrayList<>();
+        for (StatementRecorder.Recorded statement : statements) {
+            String planJson = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + statement.getSql(),
+                    String.class, statement.getParameters());
+            List<String> problems = new ArrayList<>();
+            try {
+                collectProblems(objectMapper.readTree(planJson).get(0).get("Plan"), problems);
+            } catch (Exception e) {
+                problems.add("unreadable plan: " + e.getMessage());
+            }
+            if (!problems.isEmpty()) {
+                failures.add(problems + "\n  " + statement.getSql() + "\n  " + planJson);
+            }
+        }
+        assertTrue(failures.isEmpty(), () -> String.join("\n\n", failures));
+    }
+
+    private void collectProblems(JsonNode node, List<String> problems) {
+        String nodeType = node.path("Node Type").asText();
+        if ("Seq Scan".equals(nodeType)) {
+            String relation = node.path("Relation Name").asText();
+            if (estimatedRows(relation) > SMALL_INPUT) {
+                problems.add("sequential scan on " + relation);
+            }
+        }
+        if ("Sort".equals(nodeType) || "Incremental Sort".equals(nodeType)) {
+            long input = node.path("Plans").path(0).path("Plan Rows").asLong();
+            if (input > SMALL_INPUT) {
+                problems.add(nodeType.toLowerCase() + " of " + input + " rows on " + node.path("Sort Key"));
+            }
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectProblems(child, problems);
+        }
+    }
+
+    private long estimatedRows(String relation) {
+        Long rows = jdbcTemplate.queryForObject(
+                "SELECT GREATEST(reltuples, 0)::bigint FROM pg_class WHERE relname = ?", Long.class, relation);
+        return rows != null ? rows : 0;
+    }
+}